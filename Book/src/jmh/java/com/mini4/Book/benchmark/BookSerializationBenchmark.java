@@ -0,0 +1,100 @@
+package com.mini4.Book.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mini4.Book.domain.Book;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.ApiResponse;
+import com.mini4.Book.dto.BookListResponseDto;
+import com.mini4.Book.dto.BookResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 생성 비용: 엔티티 -> BookResponseDto 변환, ApiResponse<BookListResponseDto> JSON 직렬화
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookSerializationBenchmark {
+
+	@Param({"1", "20", "100", "1000"})
+	public int listSize;
+
+	private ObjectMapper objectMapper;
+	private List<Book> books;
+	private ApiResponse<BookListResponseDto<BookResponseDto>> response;
+
+	@Setup
+	public void setUp() throws Exception {
+		// Spring Boot 기본 설정과 같은 ObjectMapper (LocalDateTime 을 ISO 문자열로)
+		objectMapper = new ObjectMapper()
+				.registerModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+		User user = User.builder().id(1L).name("benchmark").email("benchmark@example.com").password("x").build();
+		books = new ArrayList<>(listSize);
+		for (int i = 0; i < listSize; i++) {
+			Book book = Book.builder()
+					.title("벤치마크 도서 " + i)
+					.author("저자 " + i)
+					.publisher("출판사")
+					.publishedDate("2024-01-01")
+					.content("도서 내용 ".repeat(40))
+					.price(10000 + i)
+					.category("IT")
+					.imageUrl("https://example.com/images/" + i + ".png")
+					.user(user)
+					.build();
+			set(book, "id", (long) i + 1);
+			set(book, "createdAt", LocalDateTime.now());
+			set(book, "updatedAt", LocalDateTime.now());
+			books.add(book);
+		}
+		response = ApiResponse.success("도서 목록이 성공적으로 조회되었습니다.",
+				new BookListResponseDto<>(toDtos(), "cursor", (long) listSize));
+	}
+
+	@Benchmark
+	public List<BookResponseDto> toResponseDtos() {
+		return toDtos();
+	}
+
+	@Benchmark
+	public byte[] serializeListResponse() throws Exception {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+	// 컨트롤러 응답 전체 경로: 변환 + 직렬화
+	@Benchmark
+	public byte[] toDtosAndSerialize() throws Exception {
+		return objectMapper.writeValueAsBytes(ApiResponse.success("도서 목록이 성공적으로 조회되었습니다.",
+				new BookListResponseDto<>(toDtos(), "cursor", (long) listSize)));
+	}
+
+	private List<BookResponseDto> toDtos() {
+		List<BookResponseDto> dtos = new ArrayList<>(books.size());
+		for (Book book : books) {
+			dtos.add(new BookResponseDto(book));
+		}
+		return dtos;
+	}
+
+	// 엔티티에 setter 가 없는 필드 (id, 감사 필드) 설정
+	private static void set(Book book, String fieldName, Object value) throws ReflectiveOperationException {
+		Field field = Book.class.getDeclaredField(fieldName);
+		field.setAccessible(true);
+		field.set(book, value);
+	}
+}
@@ -0,0 +1,121 @@
+package com.mini4.Book.benchmark;
+
+import com.mini4.Book.BookApplication;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookListRequestDto;
+import com.mini4.Book.dto.BookListResponseDto;
+import com.mini4.Book.dto.BookResponseDto;
+import com.mini4.Book.dto.BookSummaryDto;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.search.BookSearchIndex;
+import com.mini4.Book.service.BookImportService;
+import com.mini4.Book.service.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// BookServiceImpl 읽기 경로 (인메모리 H2, 웹 서버 없이 애플리케이션 컨텍스트만 기동)
+// detailCache = false 이면 상세 조회가 매번 DB 를 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookServiceBenchmark {
+
+	private static final int BOOKS = 10_000;
+
+	@Param({"false", "true"})
+	public boolean detailCache;
+
+	private ConfigurableApplicationContext context;
+	private BookService bookService;
+	private BookListRequestDto firstPage;
+	private BookListRequestDto firstSummaryPage;
+	private String secondPageCursor;
+	private Long userId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		context = new SpringApplicationBuilder(BookApplication.class)
+				.web(WebApplicationType.NONE)
+				// application.yml 보다 우선하도록 명령행 인자로 전달
+				.run("--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+						"--spring.jpa.show-sql=false",
+						"--logging.level.root=WARN",
+						"--logging.level.com.mini4.Book=WARN",
+						"--logging.level.org.springframework.security=WARN",
+						"--book.cache.detail.enabled=" + detailCache);
+		bookService = context.getBean(BookService.class);
+
+		userId = context.getBean(UserRepository.class).save(User.builder()
+				.name("benchmark").email("benchmark@example.com").password("x").build()).getId();
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < BOOKS; i++) {
+			ndjson.append("{\"title\":\"벤치마크 도서 ").append(i)
+					.append("\",\"author\":\"저자\",\"publisher\":\"출판사\",\"publishedDate\":\"2024-01-01\",")
+					.append("\"content\":\"").append("도서 내용 ".repeat(40)).append("\",\"price\":").append(i)
+					.append(",\"category\":\"IT\"}\n");
+		}
+		context.getBean(BookImportService.class).importBooks(
+				new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)),
+				BookImportService.Format.NDJSON, userId);
+		// 대량 등록 후 비동기로 시작된 검색 색인 재구성이 측정과 겹치지 않도록 완료될 때까지 대기
+		context.getBean(BookSearchIndex.class).rebuild();
+
+		firstPage = new BookListRequestDto();
+		firstSummaryPage = new BookListRequestDto();
+		firstSummaryPage.setView("summary");
+		secondPageCursor = bookService.getAllBooks(firstPage).getNextCursor();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public BookResponseDto getBookById() {
+		return bookService.getBookById(ThreadLocalRandom.current().nextLong(1, BOOKS + 1));
+	}
+
+	@Benchmark
+	public BookListResponseDto<BookResponseDto> getAllBooksFirstPage() {
+		return bookService.getAllBooks(firstPage);
+	}
+
+	@Benchmark
+	public BookListResponseDto<BookResponseDto> getAllBooksWithCursor() {
+		BookListRequestDto request = new BookListRequestDto();
+		request.setCursor(secondPageCursor);
+		return bookService.getAllBooks(request);
+	}
+
+	@Benchmark
+	public BookListResponseDto<BookSummaryDto> getAllBookSummariesFirstPage() {
+		return bookService.getAllBookSummaries(firstSummaryPage);
+	}
+
+	@Benchmark
+	public BookListResponseDto<BookResponseDto> getBooksByUserId() {
+		return bookService.getBooksByUserId(userId, firstPage);
+	}
+
+	@Benchmark
+	public BookListResponseDto<BookSummaryDto> searchBooks() {
+		return bookService.searchBooks("벤치마크 도서 12", 20);
+	}
+}
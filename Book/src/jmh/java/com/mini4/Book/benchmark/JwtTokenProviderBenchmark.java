@@ -0,0 +1,69 @@
+package com.mini4.Book.benchmark;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.TimeUnit;
+
+// JWT 발급/검증/인증 객체 생성 비용
+// verifiedCacheSize = 0 이면 매번 서명 검증, 10000 이면 검증된 토큰 캐시 사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+	private static final String SECRET = "ODQ0NzQwMzY5MjI1Mzk3YTZlYjAwY2ZhOTFhOTc0MDYzY2Q5Yzc4YzlmNjI1YjAwMDFlMjFlNzY0MmY5YTM2Mg==";
+
+	@Param({"0", "10000"})
+	public long verifiedCacheSize;
+
+	private JwtTokenProvider jwtTokenProvider;
+	private Authentication authentication;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		// uid/name 클레임이 있는 토큰만 사용하므로 UserDetailsService 는 호출되지 않음
+		jwtTokenProvider = new JwtTokenProvider(SECRET, true, verifiedCacheSize, username -> {
+			throw new UsernameNotFoundException(username);
+		}, new SimpleMeterRegistry());
+		CustomUserDetails principal = new CustomUserDetails(User.builder()
+				.id(1L).name("benchmark").email("benchmark@example.com").password("x").build());
+		authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+		token = jwtTokenProvider.generateToken(authentication);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtTokenProvider.generateToken(authentication);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtTokenProvider.validateToken(token);
+	}
+
+	@Benchmark
+	public Authentication getAuthentication() {
+		return jwtTokenProvider.getAuthentication(token);
+	}
+
+	// 필터와 같은 경로: 한 번 검증한 Claims 로 인증 객체 생성
+	@Benchmark
+	public Authentication verifyAndAuthenticate() {
+		return jwtTokenProvider.getAuthentication(jwtTokenProvider.verify(token));
+	}
+}
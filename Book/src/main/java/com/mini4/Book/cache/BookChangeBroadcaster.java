@@ -0,0 +1,89 @@
+package com.mini4.Book.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini4.Book.event.BookChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// 커밋된 도서 변경 이벤트를 Redis pub/sub 으로 다른 노드에 전달하고,
+// 다른 노드에서 온 메시지는 remote = true 인 BookChangedEvent 로 이 노드에 다시 발행합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookChangeBroadcaster implements MessageListener {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("book:changed");
+
+    // 자신이 보낸 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, TOPIC);
+    }
+
+    // 로컬 캐시 정리(Redis 키 삭제 포함)가 끝난 뒤에 전파되도록 가장 마지막에 실행
+    // 대량 등록(IMPORTED)은 chunk 마다 커밋한 뒤 트랜잭션 밖에서 발행하므로 fallbackExecution 으로 바로 전파
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(new Envelope(nodeId, event));
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), payload);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast book change (bookId: {}, type: {}). Error: {}",
+                    event.getBookId(), event.getType(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+            if (nodeId.equals(envelope.getOrigin())) {
+                return; // 자신이 보낸 메시지
+            }
+            BookChangedEvent event = envelope.getEvent();
+            event.setRemote(true);
+            log.debug("Received remote book change (bookId: {}, type: {})", event.getBookId(), event.getType());
+            eventPublisher.publishEvent(event);
+        } catch (Exception e) {
+            log.warn("Failed to handle book change message. Error: {}", e.getMessage());
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Envelope {
+        private String origin;
+        private BookChangedEvent event;
+    }
+}
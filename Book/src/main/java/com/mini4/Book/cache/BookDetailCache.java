@@ -0,0 +1,281 @@
+package com.mini4.Book.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mini4.Book.dto.BookResponseDto;
+import com.mini4.Book.event.BookChangedEvent;
+import com.mini4.Book.util.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 도서 상세 조회 2단계 캐시 (1단계: 노드 로컬 Caffeine, 2단계: 공유 Redis)
+// - 로컬 캐시는 크기/TTL 로 제한되며, 같은 ID 에 대한 동시 미스는 SingleFlight 로 합쳐 한 번만 DB 를 조회합니다.
+// - 수정/삭제 커밋 후 로컬 캐시와 Redis 키를 지우고, 다른 노드의 로컬 캐시는 BookChangeBroadcaster 를 통해 지워집니다.
+@Slf4j
+@Component
+public class BookDetailCache {
+
+    private static final String KEY_PREFIX = "book:detail:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration redisTtl;
+    private final Cache<Long, BookResponseDto> localCache;
+    private final SingleFlight<Long, BookResponseDto> loads = new SingleFlight<>();
+    // DB 조회 도중 무효화가 있었는지 판단하는 세대 값 (증가했으면 조회 결과가 이전 값일 수 있으므로 Redis/로컬 캐시에 쓰지 않음)
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    public BookDetailCache(StringRedisTemplate stringRedisTemplate,
+                           ObjectMapper objectMapper,
+                           @Value("${book.cache.detail.enabled:true}") boolean enabled,
+                           @Value("${book.cache.detail.local-max-size:10000}") long localMaxSize,
+                           @Value("${book.cache.detail.local-ttl-seconds:60}") long localTtlSeconds,
+                           @Value("${book.cache.detail.redis-ttl-seconds:600}") long redisTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // 로컬 -> Redis -> loader(DB) 순서로 조회. loader 가 null 을 반환하면 (도서 없음) 캐시하지 않습니다.
+    public BookResponseDto get(Long bookId, Function<Long, BookResponseDto> loader) {
+        if (!enabled) {
+            return loader.apply(bookId);
+        }
+        BookResponseDto cached = localCache.getIfPresent(bookId);
+        if (cached != null) {
+            return cached;
+        }
+        // SingleFlight.forget 은 조회 도중의 무효화만 막으므로, 조회가 끝난 뒤 로컬 캐시에 넣기 전의 무효화는 세대 값으로 확인
+        long generation = evictions.get();
+        return loads.load(bookId, id -> loadFromRedisOrSource(id, loader),
+                book -> putLocalIfNotEvictedSince(generation, Map.of(bookId, book)));
+    }
+
+    // 여러 도서를 로컬 -> Redis(MGET 한 번) -> loader(DB, 남은 ID 만 한 번에) 순서로 조회
+    // 반환 맵에는 존재하는 도서만 담기며, loader 도 없는 ID 는 결과에서 빼고 반환해야 합니다.
+    public Map<Long, BookResponseDto> getAll(Collection<Long> bookIds,
+                                             Function<Collection<Long>, Map<Long, BookResponseDto>> loader) {
+        if (!enabled) {
+            return loader.apply(bookIds);
+        }
+        Map<Long, BookResponseDto> found = new HashMap<>(localCache.getAllPresent(bookIds));
+        List<Long> misses = new ArrayList<>();
+        for (Long bookId : bookIds) {
+            if (!found.containsKey(bookId)) {
+                misses.add(bookId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        misses = readFromRedis(misses, found);
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        // 조회 도중 수정/삭제로 캐시가 지워졌다면 이전 값일 수 있으므로 반환만 하고 캐시하지 않음
+        long generation = evictions.get();
+        redisMisses.add(misses.size());
+        Map<Long, BookResponseDto> loaded = loader.apply(misses);
+        if (!loaded.isEmpty() && evictions.get() == generation) {
+            putLocalIfNotEvictedSince(generation, loaded);
+            writeToRedis(loaded);
+            deleteIfEvictedSince(generation, loaded.keySet());
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    // Redis 에서 찾은 도서는 found 와 로컬 캐시에 넣고, 찾지 못한 ID 목록을 반환
+    private List<Long> readFromRedis(List<Long> bookIds, Map<Long, BookResponseDto> found) {
+        List<String> values;
+        try {
+            values = stringRedisTemplate.opsForValue().multiGet(bookIds.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (Exception e) {
+            log.warn("Book detail cache batch read from Redis failed ({} ids). Error: {}", bookIds.size(), e.getMessage());
+            return bookIds;
+        }
+        if (values == null) {
+            return bookIds;
+        }
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < bookIds.size(); i++) {
+            Long bookId = bookIds.get(i);
+            BookResponseDto book = parse(bookId, values.get(i));
+            if (book == null) {
+                misses.add(bookId);
+                continue;
+            }
+            redisHits.increment();
+            found.put(bookId, book);
+            localCache.put(bookId, book);
+        }
+        return misses;
+    }
+
+    private BookResponseDto parse(Long bookId, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, BookResponseDto.class);
+        } catch (Exception e) {
+            log.warn("Book detail cache entry in Redis is unreadable (bookId: {}). Error: {}", bookId, e.getMessage());
+            return null;
+        }
+    }
+
+    // SET EX 를 파이프라인으로 묶어 한 번의 왕복으로 기록
+    private void writeToRedis(Map<Long, BookResponseDto> books) {
+        try {
+            RedisSerializer<String> serializer = stringRedisTemplate.getStringSerializer();
+            List<byte[][]> entries = new ArrayList<>(books.size());
+            for (Map.Entry<Long, BookResponseDto> entry : books.entrySet()) {
+                entries.add(new byte[][]{
+                        serializer.serialize(KEY_PREFIX + entry.getKey()),
+                        serializer.serialize(objectMapper.writeValueAsString(entry.getValue()))
+                });
+            }
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[][] entry : entries) {
+                    connection.stringCommands().set(entry[0], entry[1], Expiration.from(redisTtl),
+                            RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Book detail cache batch write to Redis failed ({} books). Error: {}", books.size(), e.getMessage());
+        }
+    }
+
+    private BookResponseDto loadFromRedisOrSource(Long bookId, Function<Long, BookResponseDto> loader) {
+        String key = KEY_PREFIX + bookId;
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            if (json != null) {
+                redisHits.increment();
+                return objectMapper.readValue(json, BookResponseDto.class);
+            }
+        } catch (Exception e) {
+            log.warn("Book detail cache read from Redis failed (bookId: {}). Error: {}", bookId, e.getMessage());
+        }
+        redisMisses.increment();
+
+        // 조회 도중 수정/삭제 커밋으로 키가 지워졌다면 이전 값을 다시 넣지 않도록 Redis 에 쓰지 않음
+        long generation = evictions.get();
+        BookResponseDto loaded = loader.apply(bookId);
+        if (loaded != null && evictions.get() == generation) {
+            try {
+                stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(loaded), redisTtl);
+            } catch (Exception e) {
+                log.warn("Book detail cache write to Redis failed (bookId: {}). Error: {}", bookId, e.getMessage());
+            }
+            deleteIfEvictedSince(generation, List.of(bookId));
+        }
+        return loaded;
+    }
+
+    // 확인 후 put 사이에 무효화가 끼어든 경우 (무효화의 invalidate 가 put 보다 먼저 실행되었을 수 있음) 방금 넣은 항목을 지움
+    private void putLocalIfNotEvictedSince(long generation, Map<Long, BookResponseDto> books) {
+        if (evictions.get() != generation) {
+            return;
+        }
+        localCache.putAll(books);
+        if (evictions.get() != generation) {
+            localCache.invalidateAll(books.keySet());
+        }
+    }
+
+    // 확인 후 SET 사이에 무효화가 끼어든 경우 (무효화의 DEL 이 SET 보다 먼저 실행되었을 수 있음) 방금 쓴 키를 지움
+    // 무효화는 세대 값을 먼저 올리고 DEL 하므로, 여기서 세대가 그대로라면 그 DEL 은 SET 이후에 실행됨
+    private void deleteIfEvictedSince(long generation, Collection<Long> bookIds) {
+        if (evictions.get() == generation) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(bookIds.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (Exception e) {
+            log.warn("Book detail cache cleanup in Redis failed ({} ids). Error: {}", bookIds.size(), e.getMessage());
+        }
+    }
+
+    // 이 노드에서 변경된 경우: 로컬 + Redis 모두 삭제
+    public void evict(Long bookId) {
+        evictions.incrementAndGet();
+        loads.forget(bookId);
+        localCache.invalidate(bookId);
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + bookId);
+        } catch (Exception e) {
+            log.warn("Book detail cache eviction from Redis failed (bookId: {}). Error: {}", bookId, e.getMessage());
+        }
+    }
+
+    // 다른 노드에서 변경된 경우: Redis 키는 변경한 노드가 이미 삭제했으므로 로컬만 삭제
+    public void evictLocal(Long bookId) {
+        evictions.incrementAndGet();
+        loads.forget(bookId);
+        localCache.invalidate(bookId);
+    }
+
+    // Redis 키 삭제가 다른 노드로의 전파(BookChangeBroadcaster)보다 먼저 실행되도록 우선 순위를 높게 지정
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.CREATED || event.getType() == BookChangedEvent.Type.IMPORTED) {
+            return; // 존재하지 않는 도서는 캐시하지 않으므로 정리할 항목이 없음
+        }
+        if (event.isRemote()) {
+            evictLocal(event.getBookId());
+        } else {
+            evict(event.getBookId());
+        }
+    }
+
+    public long getLocalHitCount() {
+        return localCache.stats().hitCount();
+    }
+
+    public long getLocalMissCount() {
+        return localCache.stats().missCount();
+    }
+
+    public long getRedisHitCount() {
+        return redisHits.sum();
+    }
+
+    // Redis 미스 = 실제 DB 조회 횟수
+    public long getRedisMissCount() {
+        return redisMisses.sum();
+    }
+}
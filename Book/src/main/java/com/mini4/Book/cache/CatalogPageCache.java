@@ -0,0 +1,102 @@
+package com.mini4.Book.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mini4.Book.dto.BookListRequestDto;
+import com.mini4.Book.event.BookChangedEvent;
+import com.mini4.Book.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 공개 도서 목록 (GET /api/v1/books) 응답 캐시: 직렬화된 JSON 바이트와 gzip 압축본을 함께 저장
+// - 키는 카탈로그 버전 + 요청 파라미터. 도서가 바뀌면 버전이 바뀌므로 이전 응답은 조회되지 않음
+// - 적중 시 DB 조회, DTO 변환, Jackson 직렬화, 압축 없이 바이트를 그대로 응답
+// - 같은 키에 대한 동시 미스는 SingleFlight 로 합쳐 한 번만 조회/직렬화
+// 메트릭: cache.gets{cache=catalog.page, result}, cache.size 등 (CaffeineCacheMetrics)
+@Component
+public class CatalogPageCache {
+
+    private final boolean enabled;
+    private final Cache<String, CachedPage> cache;
+    private final SingleFlight<String, CachedPage> loads = new SingleFlight<>();
+
+    public CatalogPageCache(@Value("${book.cache.catalog-page.enabled:true}") boolean enabled,
+                            @Value("${book.cache.catalog-page.max-bytes:33554432}") long maxBytes,
+                            @Value("${book.cache.catalog-page.ttl-seconds:300}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedPage page) -> page.getJson().length + page.getGzip().length)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalog.page");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 캐시에 없으면 serializer 로 응답 본문(JSON 바이트)을 만들어 gzip 과 함께 저장
+    // catalogVersion 은 목록 조회 전에 읽은 값이어야 함 (이전 버전 키에 새 데이터가 들어가는 것은 무해)
+    public CachedPage get(String catalogVersion, BookListRequestDto listRequest, Supplier<byte[]> serializer) {
+        String key = catalogVersion + "|" + keyOf(listRequest);
+        CachedPage cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.load(key, k -> CachedPage.of(serializer.get()), page -> cache.put(key, page));
+    }
+
+    // 이전 버전의 항목은 다시 조회되지 않으므로 메모리만 비움 (BookDetailCache, 전체 개수 캐시 정리 뒤, 버전 변경 전)
+    @Order(Ordered.LOWEST_PRECEDENCE - 2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    // 필터 값에 구분자(|)가 들어와도 다른 요청과 키가 겹치지 않도록 이스케이프
+    private static String keyOf(BookListRequestDto r) {
+        StringBuilder key = new StringBuilder(r.isSummaryView() ? "summary" : "full");
+        for (Object value : new Object[]{r.getSize(), r.isWithTotal(), r.getCursor(), r.getCategory(),
+                r.getPublisher(), r.getMinPrice(), r.getMaxPrice(), r.getOwnerId()}) {
+            key.append('|');
+            if (value != null) {
+                key.append('=').append(value.toString().replace("\\", "\\\\").replace("|", "\\|"));
+            }
+        }
+        return key.toString();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedPage {
+        private final byte[] json;
+        private final byte[] gzip;
+
+        static CachedPage of(byte[] json) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new CachedPage(json, compressed.toByteArray());
+        }
+    }
+}
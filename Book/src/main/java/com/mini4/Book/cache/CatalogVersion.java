@@ -0,0 +1,74 @@
+package com.mini4.Book.cache;
+
+import com.mini4.Book.event.BookChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 도서 목록 ETag 에 사용할 카탈로그 전체 버전 (도서 생성/수정/삭제/대량 등록 시 변경)
+// - 공유 카운터: Redis INCR (키: book:catalog:version). 다른 노드의 변경은 BookChangeBroadcaster 로 받아 다시 읽음
+// - Redis 를 사용할 수 없으면 노드 ID + 로컬 카운터를 덧붙임 (노드 간에는 다르지만, 변경 시 항상 달라짐)
+// 요청 처리 중에는 메모리의 값만 읽으므로 304 응답에 DB/Redis 조회가 필요 없습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogVersion {
+
+    private static final String KEY = "book:catalog:version";
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sharedVersion = new AtomicLong(); // 마지막으로 확인한 Redis 카운터 (작아지지 않음)
+    private final AtomicLong localChanges = new AtomicLong();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Redis 갱신에 실패한 적이 있으면 붙는 노드 로컬 접미사 (실패할 때마다 바뀜)
+    // 실패 중의 변경이 공유 카운터에 반영되지 않았으므로, 복구 후에도 이전 ETag 와 같아지지 않도록 재시작 전까지 유지
+    private volatile String localSuffix = "";
+
+    @PostConstruct
+    public void init() {
+        try {
+            sharedVersion.set(parse(stringRedisTemplate.opsForValue().get(KEY)));
+        } catch (Exception e) {
+            log.warn("Catalog version could not be read from Redis, using node-local version. Error: {}", e.getMessage());
+            markLocalChange();
+        }
+    }
+
+    public String current() {
+        return sharedVersion.get() + localSuffix;
+    }
+
+    // 커밋 이후, 다른 캐시 정리(상세 캐시, 전체 개수 캐시)가 끝난 뒤 버전 변경
+    // (새 버전의 ETag 가 이전 상태의 응답에 붙지 않도록. BookChangeBroadcaster 보다는 먼저 실행)
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        try {
+            long version = event.isRemote()
+                    ? parse(stringRedisTemplate.opsForValue().get(KEY))
+                    : stringRedisTemplate.opsForValue().increment(KEY);
+            sharedVersion.accumulateAndGet(version, Math::max);
+        } catch (Exception e) {
+            log.warn("Catalog version update in Redis failed, using node-local version. Error: {}", e.getMessage());
+            markLocalChange();
+        }
+    }
+
+    private void markLocalChange() {
+        localSuffix = "-" + nodeId + "." + localChanges.incrementAndGet();
+    }
+
+    private static long parse(String value) {
+        return value == null ? 0 : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,156 @@
+package com.mini4.Book.cache;
+
+import com.mini4.Book.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 사용 중인 이메일/이름의 노드별 Bloom 필터 (회원가입 화면의 입력마다 호출되는 사용 가능 여부 확인용)
+// - mightBeTaken 이 false 이면 DB 조회 없이 사용 가능, true 일 때만 DB 로 확인합니다.
+// - 기동 시와 주기적으로 user_table 을 읽어 다시 만들고, 다른 노드의 회원가입은 Redis pub/sub 으로 받아 추가합니다.
+//   (주기적 재구성으로 pub/sub 누락분을 보정. 회원가입 자체는 DB 유니크 제약으로 판단하므로 이 필터는 참고용)
+@Slf4j
+@Component
+public class UserAvailabilityIndex implements MessageListener {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("user:registered");
+
+    private static final String EMAIL_PREFIX = "e:";
+    private static final String NAME_PREFIX = "n:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile boolean loaded; // DB 에서 한 번이라도 재구성에 성공했는지 (실패 상태에서는 모든 확인을 DB 로)
+
+    // 재구성 중 추가된 항목 (새 필터로 교체한 뒤 다시 반영)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<String> addedDuringRebuild = new HashSet<>(); // lock 으로 보호
+    private boolean rebuilding; // lock 으로 보호
+
+    public UserAvailabilityIndex(JdbcTemplate jdbcTemplate,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 @Value("${book.user-availability.expected-users:100000}") long expectedUsers,
+                                 @Value("${book.user-availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = newFilter();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, TOPIC);
+    }
+
+    public boolean mightBeTakenEmail(String email) {
+        return !loaded || filter.mightContain(EMAIL_PREFIX + email);
+    }
+
+    public boolean mightBeTakenName(String name) {
+        return !loaded || filter.mightContain(NAME_PREFIX + name);
+    }
+
+    // 회원가입한 사용자의 이메일/이름을 추가하고 다른 노드에 알림
+    // (트랜잭션이 롤백되더라도 필터에 남는 항목은 DB 확인으로 걸러지므로 커밋 전에 추가해도 됨)
+    public void register(String email, String name) {
+        addLocal(EMAIL_PREFIX + email);
+        addLocal(NAME_PREFIX + name);
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), EMAIL_PREFIX + email);
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), NAME_PREFIX + name);
+        } catch (Exception e) {
+            // 다른 노드는 다음 주기적 재구성에서 반영
+            log.warn("Failed to broadcast user registration (email: {}). Error: {}", email, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // user_table 의 이메일/이름을 읽어 새 필터를 만든 뒤 교체 (행 단위로 읽으므로 전체 목록을 메모리에 두지 않음)
+    @Scheduled(initialDelayString = "${book.user-availability.rebuild-interval-ms:600000}",
+            fixedDelayString = "${book.user-availability.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        lock.lock();
+        try {
+            addedDuringRebuild.clear();
+            rebuilding = true;
+        } finally {
+            lock.unlock();
+        }
+        BloomFilter fresh = newFilter();
+        long[] count = {0};
+        try {
+            jdbcTemplate.query("SELECT email, name FROM user_table", rs -> {
+                fresh.add(EMAIL_PREFIX + rs.getString(1));
+                fresh.add(NAME_PREFIX + rs.getString(2));
+                count[0]++;
+            });
+            lock.lock();
+            try {
+                addedDuringRebuild.forEach(fresh::add);
+                filter = fresh;
+            } finally {
+                lock.unlock();
+            }
+            loaded = true;
+            log.info("User availability filter rebuilt: {} users.", count[0]);
+        } catch (Exception e) {
+            log.warn("User availability filter rebuild failed, will retry. Error: {}", e.getMessage());
+        } finally {
+            lock.lock();
+            try {
+                rebuilding = false;
+                addedDuringRebuild.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void addLocal(String value) {
+        lock.lock();
+        try {
+            filter.add(value);
+            if (rebuilding) {
+                addedDuringRebuild.add(value);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedUsers * 2, falsePositiveRate); // 사용자마다 이메일, 이름 2개
+    }
+}
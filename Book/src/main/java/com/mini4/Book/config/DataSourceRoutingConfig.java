@@ -0,0 +1,72 @@
+package com.mini4.Book.config;
+
+import com.mini4.Book.datasource.ReadWriteRoutingDataSource;
+import com.mini4.Book.datasource.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// book.datasource.routing.enabled=true 일 때 주 DB(spring.datasource.*) + 읽기 복제본(book.datasource.replicas) 라우팅
+// 복제본을 추가하면 읽기 전용 트랜잭션이 라운드 로빈으로 분산됩니다.
+@Configuration
+@ConditionalOnProperty(name = "book.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties primaryProperties,
+                                                       ReplicaDataSourceProperties replicaProperties,
+                                                       MeterRegistry meterRegistry) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        List<DataSource> replicas = new ArrayList<>();
+        int number = 0;
+        for (ReplicaDataSourceProperties.Replica replica : replicaProperties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + (++number));
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primaryProperties.getUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primaryProperties.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setInitializationFailTimeout(-1); // 복제본이 내려가 있어도 기동 (상태 확인으로 제외됨)
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(dataSource);
+        }
+
+        ReplicaDataSourceProperties.Routing routing = replicaProperties.getRouting();
+        return new ReadWriteRoutingDataSource(primary, replicas, routing.getReadYourWritesMs(),
+                routing.getHealthCheckIntervalMs(), meterRegistry);
+    }
+
+    // 트랜잭션이 시작된 뒤(readOnly 여부가 정해진 뒤) 첫 SQL 실행 시점에 연결을 가져오도록 지연
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // OSIV 로 요청 내내 EntityManager 가 열려 있어도 트랜잭션마다 연결을 반납하고 다시 가져오도록 설정
+    // (기본값은 연결을 세션 종료까지 유지하므로, 앞선 읽기 트랜잭션의 복제본 연결로 쓰기가 실행될 수 있음)
+    @Bean
+    public HibernatePropertiesCustomizer routingConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
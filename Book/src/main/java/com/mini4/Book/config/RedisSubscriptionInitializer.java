@@ -0,0 +1,31 @@
+package com.mini4.Book.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Redis 가 내려가 있어도 애플리케이션이 기동될 수 있도록 pub/sub 컨테이너는 자동 시작하지 않고,
+// 스케줄러 스레드에서 시작을 시도합니다. 실패하면 다음 주기에 다시 시도하고, 한 번 구독된 이후의 재연결은 컨테이너가 처리합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSubscriptionInitializer {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Scheduled(fixedDelayString = "${book.redis.subscribe-retry-interval-ms:5000}")
+    public void ensureSubscribed() {
+        if (redisMessageListenerContainer.isListening()) {
+            return;
+        }
+        try {
+            redisMessageListenerContainer.start();
+            log.info("Redis pub/sub subscription started.");
+        } catch (Exception e) {
+            log.warn("Redis pub/sub subscription failed, will retry. Error: {}", e.getMessage());
+            redisMessageListenerContainer.stop();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.mini4.Book.config;
+
+import com.mini4.Book.migration.SchemaMigrator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// 기동 시 db/migration 의 버전별 스크립트 적용 (스키마는 마이그레이션이 관리하고, Hibernate 는 ddl-auto: validate 로 확인만 함)
+@Configuration
+@ConditionalOnProperty(name = "book.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaMigrationConfig {
+
+    @Bean(initMethod = "migrate")
+    public SchemaMigrator schemaMigrator(DataSource dataSource,
+                                         @Value("${book.migration.location:classpath:db/migration}") String location) {
+        return new SchemaMigrator(dataSource, location);
+    }
+
+    // Hibernate 스키마 검증 전에 마이그레이션이 끝나도록 EntityManagerFactory 가 SchemaMigrator 에 의존하게 함
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigratorEntityManagerFactoryDependsOn() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SchemaMigrator.class);
+    }
+}
@@ -1,14 +1,16 @@
 package com.mini4.Book.config;
 
 import com.mini4.Book.jwt.JwtAuthenticationFilter;
+import com.mini4.Book.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,9 +25,14 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter; // JwtAuthenticationFilter 주입
 
+    // BCrypt 해싱을 요청 스레드가 아닌 전용 스레드(기본: CPU 수)에서 실행, 대기열이 가득 차면 503
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${book.password.bcrypt-strength:10}") int strength,
+                                           @Value("${book.password.hashing.threads:0}") int threads,
+                                           @Value("${book.password.hashing.queue-capacity:100}") int queueCapacity,
+                                           @Value("${book.password.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     // CORS 필터 Bean 추가
@@ -35,6 +42,7 @@ public class SecurityConfig {
         configuration.addAllowedOrigin("http://localhost:5173"); // 프론트엔드 URL
         configuration.addAllowedHeader("*");
         configuration.addAllowedMethod("*");
+        configuration.addExposedHeader("ETag"); // PATCH 의 If-Match 로 보내도록 프론트엔드에서 읽을 수 있게 노출
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -52,10 +60,23 @@ public class SecurityConfig {
                         .requestMatchers("/h2-console/**").permitAll()
                         // 로그인, 회원가입 API 허용
                         .requestMatchers("/api/v1/users/register", "/api/v1/users/login").permitAll()
+                        // 회원가입 전 이메일/이름 사용 가능 여부 확인 허용
+                        .requestMatchers(HttpMethod.GET, "/api/v1/users/availability").permitAll()
                         // 전체 도서 목록 조회 (GET /api/v1/books) 허용
                         .requestMatchers(HttpMethod.GET, "/api/v1/books").permitAll()
+                        // 도서 검색 (GET /api/v1/books/search) 허용
+                        .requestMatchers(HttpMethod.GET, "/api/v1/books/search").permitAll()
+                        // 카테고리별/가격대별 도서 수 (GET /api/v1/books/facets) 허용
+                        .requestMatchers(HttpMethod.GET, "/api/v1/books/facets").permitAll()
+                        // 도서 일괄 조회 (GET /api/v1/books/batch) 허용
+                        .requestMatchers(HttpMethod.GET, "/api/v1/books/batch").permitAll()
+                        // 표지 이미지/썸네일 조회 (GET/HEAD /api/v1/covers/**) 허용, 업로드는 인증 필요
+                        .requestMatchers(HttpMethod.GET, "/api/v1/covers/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/api/v1/covers/**").permitAll()
                         // 특정 도서 상세 조회 (GET /api/v1/books/{id}) 허용
                         .requestMatchers(HttpMethod.GET, "/api/v1/books/{id}").permitAll()
+                        // 헬스 체크 허용 (Prometheus 수집을 포함한 그 외 /actuator/** 는 인증 필요)
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
                         // 나머지 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
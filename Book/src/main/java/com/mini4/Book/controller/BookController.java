@@ -1,29 +1,64 @@
 package com.mini4.Book.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini4.Book.cache.CatalogPageCache;
+import com.mini4.Book.datasource.ReadWriteRoutingDataSource;
+import com.mini4.Book.domain.Book;
 import com.mini4.Book.dto.ApiResponse;
+import com.mini4.Book.dto.BookBatchResponseDto;
+import com.mini4.Book.dto.BookExportRequestDto;
+import com.mini4.Book.dto.BookFacetsDto;
+import com.mini4.Book.dto.BookImportResultDto;
+import com.mini4.Book.dto.BookListRequestDto;
 import com.mini4.Book.dto.BookListResponseDto;
+import com.mini4.Book.dto.BookPatchRequestDto;
 import com.mini4.Book.dto.BookRequestDto;
 import com.mini4.Book.dto.BookResponseDto;
+import com.mini4.Book.dto.BookSummaryDto;
+import com.mini4.Book.exception.ForbiddenException;
+import com.mini4.Book.exception.ServiceBusyException;
 import com.mini4.Book.security.CustomUserDetails;
+import com.mini4.Book.service.BookExportService;
+import com.mini4.Book.service.BookImportService;
 import com.mini4.Book.service.BookService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/books")
 @RequiredArgsConstructor
 public class BookController {
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final BookExportService bookExportService;
+    private final CatalogPageCache catalogPageCache;
+    private final ObjectMapper objectMapper;
 
     // 도서 등록 API
     @PostMapping
@@ -58,15 +93,126 @@ public class BookController {
         }
     }
 
-    // 단일 도서 조회 API
-    @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<BookResponseDto>> getBookById(@PathVariable Long id) {
+    // 도서 대량 등록 API (요청 본문을 스트림으로 읽음: Content-Type application/x-ndjson 또는 text/csv)
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<BookImportResultDto>> importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         try {
-            BookResponseDto responseDto = bookService.getBookById(id);
+            if (customUserDetails == null) {
+                return new ResponseEntity<>(
+                        ApiResponse.error("로그인이 필요합니다."),
+                        HttpStatus.UNAUTHORIZED
+                );
+            }
+            BookImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+                    ? BookImportService.Format.CSV
+                    : BookImportService.Format.NDJSON;
+            log.debug("User {} importing books ({})", customUserDetails.getUsername(), format);
+            BookImportResultDto result = bookImportService.importBooks(request.getInputStream(), format, customUserDetails.getUserId());
+            return new ResponseEntity<>(
+                    ApiResponse.success("도서 대량 등록이 완료되었습니다.", result),
+                    HttpStatus.OK
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid book import request. Error: {}", e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error(e.getMessage()),
+                    HttpStatus.BAD_REQUEST
+            );
+        } catch (NoSuchElementException e) {
+            log.error("Book import failed: User not found. Error: {}", e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error("사용자를 찾을 수 없습니다."),
+                    HttpStatus.NOT_FOUND
+            );
+        } catch (Exception e) {
+            log.error("도서 대량 등록 중 오류가 발생했습니다.", e);
+            return new ResponseEntity<>(
+                    ApiResponse.error("도서 대량 등록 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
+    // 도서 내보내기 API (NDJSON/CSV 스트리밍: ?format=ndjson|csv&updatedSince=&ownerId=&includeDeleted=&gzip=)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @ModelAttribute BookExportRequestDto exportRequest,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        if (!exportRequest.isNdjson() && !exportRequest.isCsv()) {
+            throw new IllegalArgumentException("format 은 ndjson 또는 csv 만 가능합니다."); // 400 Bad Request
+        }
+        if (exportRequest.isIncludeDeleted() && !customUserDetails.getUserId().equals(exportRequest.getOwnerId())) {
+            log.warn("User {} denied access to export deleted books of owner {}", customUserDetails.getUsername(), exportRequest.getOwnerId());
+            throw new ForbiddenException("삭제된 도서는 본인 도서만 내보낼 수 있습니다. (ownerId 를 본인 ID 로 지정)"); // 403 Forbidden
+        }
+
+        // 응답 본문은 별도 스레드에서 DB 커서를 읽으며 바로 씀 (전체 목록을 메모리에 만들지 않음)
+        StreamingResponseBody body = output -> {
+            if (exportRequest.isGzip()) {
+                GZIPOutputStream gzip = new GZIPOutputStream(output, 64 * 1024);
+                bookExportService.exportBooks(exportRequest, gzip);
+                gzip.finish();
+            } else {
+                bookExportService.exportBooks(exportRequest, output);
+            }
+        };
+        String fileName = (exportRequest.isCsv() ? "books.csv" : "books.ndjson") + (exportRequest.isGzip() ? ".gz" : "");
+        MediaType contentType = exportRequest.isGzip() ? MediaType.parseMediaType("application/gzip")
+                : exportRequest.isCsv() ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    // 도서 일괄 조회 API (?ids=3,1,2: 요청 순서대로 반환, 없거나 삭제된 ID 는 missingIds 로)
+    // 위시리스트/최근 본 도서처럼 여러 권을 그릴 때 GET /{id} 를 권마다 호출하지 않도록 사용
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<BookBatchResponseDto>> getBooksByIds(
+            @RequestParam(required = false) List<Long> ids) {
+        try {
+            BookBatchResponseDto books = bookService.getBooksByIds(ids); // 상세 캐시 미스만 DB 조회
+            return new ResponseEntity<>(
+                    ApiResponse.success("도서가 성공적으로 조회되었습니다.", books),
+                    HttpStatus.OK
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid book batch request. Error: {}", e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error(e.getMessage()),
+                    HttpStatus.BAD_REQUEST
+            );
+        } catch (Exception e) {
+            log.error("도서 일괄 조회 중 오류가 발생했습니다.", e);
             return new ResponseEntity<>(
-                    ApiResponse.success("도서가 성공적으로 조회되었습니다.", responseDto),
-                    HttpStatus.OK // 200 OK
+                    ApiResponse.error("도서 일괄 조회 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
             );
+        }
+    }
+
+    // 단일 도서 조회 API (ETag/Last-Modified: 도서 ID 와 수정 시각, If-None-Match/If-Modified-Since 일치 시 304)
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<BookResponseDto>> getBookById(@PathVariable Long id, WebRequest webRequest) {
+        try {
+            BookResponseDto responseDto = bookService.getBookById(id); // 상세 캐시 적중 시 DB 조회 없음
+            String eTag = bookETag(responseDto);
+            long lastModified = toEpochMillis(responseDto.getUpdatedAt());
+            if (webRequest.checkNotModified(eTag, lastModified)) {
+                return null; // 304 Not Modified (본문 직렬화 없음)
+            }
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .lastModified(lastModified)
+                    .cacheControl(CacheControl.noCache()) // 클라이언트는 저장하되 매번 재검증
+                    .body(ApiResponse.success("도서가 성공적으로 조회되었습니다.", responseDto));
         } catch (NoSuchElementException e) {
             log.warn("Book not found for ID: {}. Error: {}", id, e.getMessage());
             return new ResponseEntity<>(
@@ -82,15 +228,51 @@ public class BookController {
         }
     }
 
-    // 모든 도서 목록 조회 API (페이징 제거)
+    // 모든 도서 목록 조회 API (커서 기반 페이징: ?cursor=&size=&withTotal=, 요약 목록: ?view=summary)
+    // 필터: ?category=&minPrice=&maxPrice=&publisher=&ownerId= (조합 가능, 조건별 인덱스 사용)
+    // ETag 는 카탈로그 버전 (도서가 바뀌지 않았으면 DB 조회 없이 304), gzip 응답은 "-gz" 를 붙인 별도 ETag
+    // 모든 사용자에게 같은 응답이므로 직렬화된 JSON(+gzip) 바이트를 CatalogPageCache 에 저장해 그대로 응답
     @GetMapping
-    public ResponseEntity<ApiResponse<BookListResponseDto>> getAllBooks() {
+    public ResponseEntity<?> getAllBooks(@ModelAttribute BookListRequestDto listRequest,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                         WebRequest webRequest,
+                                         HttpServletResponse servletResponse) {
         try {
-            List<BookResponseDto> books = bookService.getAllBooks();
-            // BookListResponseDto 생성자가 List<BookResponseDto>를 받도록 수정되었으므로, 직접 전달
+            String catalogVersion = bookService.getCatalogVersion(); // 목록 조회 전에 읽음 (ETag 가 데이터보다 새롭지 않도록)
+            // gzip 본문과 원본 본문은 바이트가 다르므로 강한 ETag 도 구분 ("c{버전}-gz")
+            boolean gzip = catalogPageCache.isEnabled() && acceptsGzip(acceptEncoding);
+            String eTag = "c" + catalogVersion + (gzip ? "-gz" : "");
+            if (catalogPageCache.isEnabled()) {
+                servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING); // 304 응답에도 포함
+            }
+            if (webRequest.checkNotModified(eTag)) {
+                return null; // 304 Not Modified
+            }
+            if (!catalogPageCache.isEnabled()) {
+                return ResponseEntity.ok()
+                        .eTag(eTag)
+                        .cacheControl(CacheControl.noCache())
+                        .body(ApiResponse.success("도서 목록이 성공적으로 조회되었습니다.", loadBooks(listRequest)));
+            }
+
+            // 캐시된 응답은 모든 사용자가 공유하므로 복제 지연된 목록을 새 버전으로 저장하지 않도록 미스 조회는 주 DB 사용
+            CatalogPageCache.CachedPage page = catalogPageCache.get(catalogVersion, listRequest, () -> serialize(
+                    ApiResponse.success("도서 목록이 성공적으로 조회되었습니다.",
+                            ReadWriteRoutingDataSource.usePrimary(() -> loadBooks(listRequest)))));
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(gzip ? page.getGzip() : page.getJson());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid book list request. Error: {}", e.getMessage());
             return new ResponseEntity<>(
-                    ApiResponse.success("도서 목록이 성공적으로 조회되었습니다.", new BookListResponseDto(books)),
-                    HttpStatus.OK // 200 OK
+                    ApiResponse.error(e.getMessage()),
+                    HttpStatus.BAD_REQUEST // 400 Bad Request
             );
         } catch (Exception e) {
             log.error("도서 목록 조회 중 오류가 발생했습니다.", e);
@@ -101,10 +283,28 @@ public class BookController {
         }
     }
 
-    // 내가 등록한 도서 목록 조회 API (페이징 제거)
+    private BookListResponseDto<?> loadBooks(BookListRequestDto listRequest) {
+        return listRequest.isSummaryView()
+                ? bookService.getAllBookSummaries(listRequest)
+                : bookService.getAllBooks(listRequest);
+    }
+
+    // 응답 변환기와 같은 ObjectMapper 로 직렬화 (캐시 적중/미스 응답 본문이 같도록)
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도서 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    // 내가 등록한 도서 목록 조회 API (커서 기반 페이징: ?cursor=&size=&withTotal=, 요약 목록: ?view=summary)
+    // ETag 는 카탈로그 버전 + 사용자 ID (같은 URL 이라도 사용자마다 응답이 다름)
     @GetMapping("/my")
-    public ResponseEntity<ApiResponse<BookListResponseDto>> getMyBooks(
-            @AuthenticationPrincipal CustomUserDetails customUserDetails) { // 파라미터 제거
+    public ResponseEntity<ApiResponse<BookListResponseDto<?>>> getMyBooks(
+            @ModelAttribute BookListRequestDto listRequest,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            WebRequest webRequest) {
         try {
             if (customUserDetails == null) {
                 return new ResponseEntity<>(
@@ -112,11 +312,23 @@ public class BookController {
                         HttpStatus.UNAUTHORIZED
                 );
             }
-            List<BookResponseDto> books = bookService.getBooksByUserId(customUserDetails.getUserId());
-            // BookListResponseDto 생성자가 List<BookResponseDto>를 받도록 수정되었으므로, 직접 전달
+            Long userId = customUserDetails.getUserId();
+            String eTag = "c" + bookService.getCatalogVersion() + "-u" + userId;
+            if (webRequest.checkNotModified(eTag)) {
+                return null; // 304 Not Modified
+            }
+            BookListResponseDto<?> books = listRequest.isSummaryView()
+                    ? bookService.getBookSummariesByUserId(userId, listRequest)
+                    : bookService.getBooksByUserId(userId, listRequest);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate()) // 공유 캐시(프록시)에 저장하지 않음
+                    .body(ApiResponse.success("내 도서 목록이 성공적으로 조회되었습니다.", books));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid my book list request. Error: {}", e.getMessage());
             return new ResponseEntity<>(
-                    ApiResponse.success("내 도서 목록이 성공적으로 조회되었습니다.", new BookListResponseDto(books)),
-                    HttpStatus.OK
+                    ApiResponse.error(e.getMessage()),
+                    HttpStatus.BAD_REQUEST
             );
         } catch (NoSuchElementException e) {
             log.warn("User not found for my books. Error: {}", e.getMessage());
@@ -133,6 +345,55 @@ public class BookController {
         }
     }
 
+    // 도서 검색 API (제목/저자/출판사/내용, 관련도순: ?q=&size=)
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<BookListResponseDto<BookSummaryDto>>> searchBooks(
+            @RequestParam(value = "q", required = false) String keyword,
+            @RequestParam(required = false) Integer size) {
+        try {
+            BookListResponseDto<BookSummaryDto> books = bookService.searchBooks(keyword, size);
+            return new ResponseEntity<>(
+                    ApiResponse.success("도서 검색이 성공적으로 완료되었습니다.", books),
+                    HttpStatus.OK
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid book search request. Error: {}", e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error(e.getMessage()),
+                    HttpStatus.BAD_REQUEST
+            );
+        } catch (ServiceBusyException e) {
+            log.warn("Book search is not ready yet. Error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE) // 503 + Retry-After (검색 색인 준비 중)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("도서 검색 중 오류가 발생했습니다.", e);
+            return new ResponseEntity<>(
+                    ApiResponse.error("도서 검색 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
+    // 카테고리별/가격대별 도서 수 API (목록 화면의 필터 옆 개수 표시용)
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<BookFacetsDto>> getFacets() {
+        try {
+            BookFacetsDto facets = bookService.getFacets();
+            return new ResponseEntity<>(
+                    ApiResponse.success("도서 분류별 개수가 성공적으로 조회되었습니다.", facets),
+                    HttpStatus.OK
+            );
+        } catch (Exception e) {
+            log.error("도서 분류별 개수 조회 중 오류가 발생했습니다.", e);
+            return new ResponseEntity<>(
+                    ApiResponse.error("도서 분류별 개수 조회 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
     // 도서 정보 수정 API
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<BookResponseDto>> updateBook(
@@ -173,6 +434,58 @@ public class BookController {
         }
     }
 
+    // 도서 부분 수정 API (JSON Merge Patch: 본문에 있는 필드만 변경, null 이면 값 삭제)
+    // If-Match 에 조회 시 받은 ETag 를 보내면 그 사이 다른 수정이 있었을 때 409 (없어도 동시 수정 충돌은 409)
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<BookResponseDto>> patchBook(
+            @PathVariable Long id,
+            @RequestBody BookPatchRequestDto patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        try {
+            if (customUserDetails == null) {
+                return new ResponseEntity<>(
+                        ApiResponse.error("로그인이 필요합니다."),
+                        HttpStatus.UNAUTHORIZED
+                );
+            }
+            BookResponseDto responseDto = bookService.patchBook(id, patch, expectedVersion(id, ifMatch), customUserDetails.getUserId());
+            return ResponseEntity.ok()
+                    .eTag(bookETag(responseDto))
+                    .body(ApiResponse.success("도서가 성공적으로 수정되었습니다.", responseDto));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid book patch request, ID: {}. Error: {}", id, e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error(e.getMessage()),
+                    HttpStatus.BAD_REQUEST
+            );
+        } catch (NoSuchElementException e) {
+            log.warn("Book not found for patch, ID: {}. Error: {}", id, e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error("해당하는 도서를 찾을 수 없습니다."),
+                    HttpStatus.NOT_FOUND
+            );
+        } catch (AccessDeniedException e) {
+            log.warn("User {} denied access to patch book ID {}. Error: {}", customUserDetails.getUsername(), id, e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error("도서를 수정할 권한이 없습니다."),
+                    HttpStatus.FORBIDDEN
+            );
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Book patch conflict, ID: {}. Error: {}", id, e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error("다른 요청이 먼저 도서를 수정했습니다. 최신 정보를 다시 조회한 뒤 수정해주세요."),
+                    HttpStatus.CONFLICT // 409 Conflict
+            );
+        } catch (Exception e) {
+            log.error("도서 수정 중 오류가 발생했습니다.", e);
+            return new ResponseEntity<>(
+                    ApiResponse.error("도서 수정 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
     // 도서 삭제 API (Soft Delete 방식으로 변경)
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteBook(
@@ -211,4 +524,104 @@ public class BookController {
             );
         }
     }
+
+    // 내 도서 일괄 삭제 API (Soft Delete, ?ids=1,2,3: 그중 본인 도서만 / ?all=true: 본인 도서 전체)
+    // 도서마다 DELETE /{id} 를 호출하지 않고 UPDATE 한 번으로 삭제하며, 삭제된 도서 ID 를 반환
+    @DeleteMapping("/my")
+    public ResponseEntity<ApiResponse<List<Long>>> deleteMyBooks(
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(defaultValue = "false") boolean all,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        try {
+            if (customUserDetails == null) {
+                return new ResponseEntity<>(
+                        ApiResponse.error("로그인이 필요합니다."),
+                        HttpStatus.UNAUTHORIZED
+                );
+            }
+            if (ids == null && !all) {
+                // ids 를 빠뜨린 요청이 전체 삭제로 처리되지 않도록 전체 삭제는 all=true 로만 허용
+                throw new IllegalArgumentException("삭제할 도서 ID (ids) 또는 all=true 를 지정해주세요.");
+            }
+            List<Long> deletedIds = bookService.deleteBooks(customUserDetails.getUserId(), all ? null : ids);
+            return new ResponseEntity<>(
+                    ApiResponse.success("도서 " + deletedIds.size() + "권이 성공적으로 삭제되었습니다.", deletedIds),
+                    HttpStatus.OK
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk delete request. Error: {}", e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error(e.getMessage()),
+                    HttpStatus.BAD_REQUEST
+            );
+        } catch (Exception e) {
+            log.error("도서 일괄 삭제 중 오류가 발생했습니다.", e);
+            return new ResponseEntity<>(
+                    ApiResponse.error("도서 일괄 삭제 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
+    // 강한 ETag: 도서 ID + 버전 (수정/삭제마다 @Version 이 1 증가, PATCH 의 If-Match 로 그대로 사용)
+    // 버전이 없는 캐시 항목 (버전 컬럼 추가 전에 Redis 에 저장된 값) 은 수정 시각으로 대신함
+    private static String bookETag(BookResponseDto book) {
+        if (book.getVersion() != null) {
+            return "b" + book.getId() + "-v" + book.getVersion();
+        }
+        LocalDateTime updatedAt = book.getUpdatedAt() != null ? book.getUpdatedAt() : book.getCreatedAt();
+        Instant instant = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        return "b" + book.getId() + "-" + instant.getEpochSecond() + "." + instant.getNano();
+    }
+
+    // If-Match 의 ETag 에서 버전 추출 (없거나 "*" 이면 null: 버전 확인 없이 수정)
+    // 이 도서의 버전 ETag 가 아니면 (다른 도서/이전 형식) 최신 상태를 본 것이 아니므로 충돌로 처리
+    private static Long expectedVersion(Long bookId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.startsWith("W/")) {
+            eTag = eTag.substring(2);
+        }
+        eTag = eTag.replace("\"", "");
+        String prefix = "b" + bookId + "-v";
+        if (eTag.startsWith(prefix)) {
+            try {
+                return Long.parseLong(eTag.substring(prefix.length()));
+            } catch (NumberFormatException ignored) {
+                // 아래에서 충돌로 처리
+            }
+        }
+        throw new ObjectOptimisticLockingFailureException(Book.class, bookId);
+    }
+
+    // Accept-Encoding 에 gzip (또는 *) 이 q=0 이 아닌 값으로 있으면 true
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=") && param.substring(2).matches("0(\\.0{0,3})?")) {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
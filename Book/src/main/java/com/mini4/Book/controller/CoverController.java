@@ -0,0 +1,224 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.dto.ApiResponse;
+import com.mini4.Book.dto.CoverUploadResponseDto;
+import com.mini4.Book.security.CustomUserDetails;
+import com.mini4.Book.storage.CoverImageStore;
+import com.mini4.Book.storage.CoverThumbnailGenerator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/covers")
+@RequiredArgsConstructor
+public class CoverController {
+
+    // Tomcat sendfile 요청 속성 (커넥터가 지원하면 응답 본문을 커널이 파일에서 소켓으로 바로 복사)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 내용 주소 기반이라 같은 URL 의 내용은 바뀌지 않으므로 1년 + immutable
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    // 썸네일 생성 전에 원본으로 대신 응답할 때는 곧 썸네일로 바뀌도록 짧게
+    private static final CacheControl PENDING_THUMBNAIL = CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic();
+
+    private final CoverImageStore coverImageStore;
+    private final CoverThumbnailGenerator coverThumbnailGenerator;
+
+    // 표지 업로드 API (multipart "file", JPEG/PNG/GIF/WebP, 크기 제한은 spring.servlet.multipart)
+    // 응답의 url 을 도서 등록/수정 시 imageUrl 로 전달
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<CoverUploadResponseDto>> uploadCover(
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        try {
+            if (customUserDetails == null) {
+                return new ResponseEntity<>(
+                        ApiResponse.error("로그인이 필요합니다."),
+                        HttpStatus.UNAUTHORIZED
+                );
+            }
+            CoverImageStore.StoredCover cover;
+            try (InputStream in = file.getInputStream()) {
+                cover = coverImageStore.store(in);
+            }
+            coverThumbnailGenerator.request(cover.getHash(), cover.getExtension());
+            log.info("Cover uploaded by user {}: {}.{} ({} bytes, duplicate: {})", customUserDetails.getUserId(),
+                    cover.getHash(), cover.getExtension(), cover.getSize(), cover.isDuplicate());
+
+            String fileName = cover.getHash() + "." + cover.getExtension();
+            CoverUploadResponseDto responseDto = new CoverUploadResponseDto(
+                    cover.getHash(),
+                    "/api/v1/covers/" + fileName,
+                    "/api/v1/covers/thumbnails/" + fileName,
+                    CoverImageStore.CONTENT_TYPES.get(cover.getExtension()),
+                    cover.getSize(),
+                    cover.isDuplicate());
+            return new ResponseEntity<>(
+                    ApiResponse.success("표지 이미지가 성공적으로 업로드되었습니다.", responseDto),
+                    cover.isDuplicate() ? HttpStatus.OK : HttpStatus.CREATED
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cover upload. Error: {}", e.getMessage());
+            return new ResponseEntity<>(
+                    ApiResponse.error(e.getMessage()),
+                    HttpStatus.BAD_REQUEST
+            );
+        } catch (Exception e) {
+            log.error("표지 이미지 업로드 중 오류가 발생했습니다.", e);
+            return new ResponseEntity<>(
+                    ApiResponse.error("표지 이미지 업로드 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
+    // 표지 원본 조회 API (ETag/If-None-Match 304, Range 206, 본문은 파일에서 소켓으로 바로 전송)
+    @GetMapping("/{hash}.{extension}")
+    public ResponseEntity<ApiResponse<Void>> getCover(@PathVariable String hash, @PathVariable String extension,
+                                                      HttpServletRequest request, HttpServletResponse response) {
+        if (!CoverImageStore.isValid(hash, extension)) {
+            return notFound();
+        }
+        return serve(coverImageStore.original(hash, extension), CoverImageStore.CONTENT_TYPES.get(extension),
+                "\"" + hash + "\"", IMMUTABLE, request, response);
+    }
+
+    // 표지 썸네일 조회 API (경로의 확장자는 원본 형식, 썸네일은 JPEG)
+    // 아직 생성되지 않았거나 지원하지 않는 형식이면 원본으로 응답하고 생성을 다시 요청
+    @GetMapping("/thumbnails/{hash}.{extension}")
+    public ResponseEntity<ApiResponse<Void>> getThumbnail(@PathVariable String hash, @PathVariable String extension,
+                                                          HttpServletRequest request, HttpServletResponse response) {
+        if (!CoverImageStore.isValid(hash, extension)) {
+            return notFound();
+        }
+        Path thumbnail = coverImageStore.thumbnail(hash);
+        if (Files.exists(thumbnail)) {
+            return serve(thumbnail, MediaType.IMAGE_JPEG_VALUE, "\"" + hash + "-t\"", IMMUTABLE, request, response);
+        }
+        Path original = coverImageStore.original(hash, extension);
+        if (!Files.exists(original)) {
+            return notFound();
+        }
+        coverThumbnailGenerator.request(hash, extension);
+        CacheControl cacheControl = CoverThumbnailGenerator.supports(extension) ? PENDING_THUMBNAIL : IMMUTABLE;
+        return serve(original, CoverImageStore.CONTENT_TYPES.get(extension), "\"" + hash + "\"", cacheControl, request, response);
+    }
+
+    // 응답을 직접 작성하고 null 반환 (오류일 때만 ApiResponse 본문)
+    private ResponseEntity<ApiResponse<Void>> serve(Path file, String contentType, String eTag, CacheControl cacheControl,
+                                                    HttpServletRequest request, HttpServletResponse response) {
+        try {
+            long length = Files.size(file);
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+                return null; // 304 Not Modified
+            }
+            response.setContentType(contentType);
+
+            long start = 0;
+            long end = length - 1;
+            HttpRange range = singleRange(request, eTag);
+            if (range != null) {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                if (start >= length || end < start) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()); // 416
+                    return null;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value()); // 206
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            response.setContentLengthLong(end - start + 1);
+            if (HttpMethod.HEAD.matches(request.getMethod())) {
+                return null;
+            }
+            transfer(file, start, end, request, response);
+            return null;
+        } catch (NoSuchFileException e) {
+            return notFound();
+        } catch (IOException e) {
+            // 클라이언트가 전송 중 연결을 끊은 경우 등 (이미 응답이 시작되었을 수 있으므로 본문 없이 종료)
+            log.debug("Cover transfer aborted ({}). Error: {}", file.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    // Range 가 하나일 때만 부분 응답 (여러 구간/잘못된 형식은 무시하고 전체 응답), If-Range 가 다르면 전체 응답
+    private static HttpRange singleRange(HttpServletRequest request, String eTag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(eTag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Tomcat sendfile 을 쓸 수 있으면 파일 경로만 넘기고 (커널이 직접 전송), 아니면 FileChannel.transferTo 로 복사
+    // 어느 쪽이든 이미지 바이트를 힙 배열로 읽지 않음
+    private static void transfer(Path file, long start, long end, HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long sent = channel.transferTo(position, end + 1 - position, out);
+                if (sent <= 0) {
+                    throw new IOException("Cover file is shorter than expected: " + file.getFileName());
+                }
+                position += sent;
+            }
+        }
+    }
+
+    private static ResponseEntity<ApiResponse<Void>> notFound() {
+        return new ResponseEntity<>(
+                ApiResponse.error("해당하는 표지 이미지를 찾을 수 없습니다."),
+                HttpStatus.NOT_FOUND
+        );
+    }
+}
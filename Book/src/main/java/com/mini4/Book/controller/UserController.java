@@ -2,6 +2,7 @@ package com.mini4.Book.controller;
 
 import com.mini4.Book.dto.ApiResponse;
 import com.mini4.Book.dto.LoginRequestDto;
+import com.mini4.Book.dto.UserAvailabilityDto;
 import com.mini4.Book.dto.UserRegisterRequestDto;
 import com.mini4.Book.dto.UserDto;
 import com.mini4.Book.jwt.JwtAuthenticationFilter;
@@ -15,9 +16,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -44,6 +47,18 @@ public class UserController {
         );
     }
 
+    // 회원가입 전 이메일/이름 사용 가능 여부 (?email=&name=, 입력마다 호출 가능)
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<UserAvailabilityDto>> checkAvailability(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String name) {
+        UserAvailabilityDto availability = userService.checkAvailability(email, name);
+        return new ResponseEntity<>(
+                ApiResponse.success("사용 가능 여부 조회 성공", availability),
+                HttpStatus.OK
+        );
+    }
+
     // 로그인
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<UserDto>> login(@RequestBody LoginRequestDto request) {
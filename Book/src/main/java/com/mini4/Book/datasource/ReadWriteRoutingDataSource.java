@@ -0,0 +1,205 @@
+package com.mini4.Book.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mini4.Book.security.CustomUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 조회)는 주 DB 로 보내는 DataSource
+// - 복제본은 라운드 로빈으로 선택하고, 주기적 상태 확인이나 연결 실패로 비정상 판정된 복제본은 건너뜀 (모두 비정상이면 주 DB)
+// - 쓰기 트랜잭션을 시작한 사용자는 readYourWrites 시간 동안 읽기도 주 DB 로 보냄 (복제 지연으로 방금 쓴 내용이 안 보이는 것 방지, 노드 단위)
+// - 트랜잭션의 readOnly 여부는 연결을 실제로 가져오는 시점에 판단하므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 함
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<ReplicaTarget> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Cache<Long, Boolean> recentWriters; // null: read-your-writes 사용 안 함
+    private final ScheduledExecutorService healthChecker;
+
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter replicaFailureCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, long readYourWritesMs,
+                                      long healthCheckIntervalMs, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        AtomicInteger number = new AtomicInteger();
+        this.replicas = replicas.stream()
+                .map(dataSource -> new ReplicaTarget("replica-" + number.incrementAndGet(), dataSource))
+                .toList();
+        this.recentWriters = readYourWritesMs > 0
+                ? Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(Duration.ofMillis(readYourWritesMs)).build()
+                : null;
+
+        // 메트릭: datasource.routing{target=primary|replica}, datasource.routing.replica.failures
+        this.primaryCounter = Counter.builder("datasource.routing").tag("target", "primary").register(meterRegistry);
+        this.replicaCounter = Counter.builder("datasource.routing").tag("target", "replica").register(meterRegistry);
+        this.replicaFailureCounter = Counter.builder("datasource.routing.replica.failures").register(meterRegistry);
+
+        if (healthCheckIntervalMs > 0 && !this.replicas.isEmpty()) {
+            this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.healthChecker = null;
+        }
+    }
+
+    // 읽기 전용 트랜잭션이라도 action 안에서 새로 가져오는 연결은 주 DB 사용 (예: 공유 캐시를 채우는 조회)
+    // 이미 복제본 연결을 잡은 트랜잭션 안에서 호출하면 효과가 없음
+    public static <T> T usePrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            primaryCounter.increment();
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            ReplicaTarget replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaCounter.increment();
+                return connection;
+            } catch (SQLException e) {
+                replicaFailureCounter.increment();
+                markUnhealthy(replica, e);
+            }
+        }
+        primaryCounter.increment(); // 사용할 수 있는 복제본이 없으면 주 DB
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("ReadWriteRoutingDataSource 는 설정된 계정만 사용합니다.");
+    }
+
+    private boolean routeToReplica() {
+        if (replicas.isEmpty() || FORCE_PRIMARY.get() != null) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite(); // 쓰기 트랜잭션
+            }
+            return false;
+        }
+        Long userId = currentUserId();
+        return recentWriters == null || userId == null || recentWriters.getIfPresent(userId) == null;
+    }
+
+    private void recordWrite() {
+        Long userId = currentUserId();
+        if (recentWriters != null && userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
+    // 각 복제본에서 연결을 가져와 isValid 로 확인 (비정상 -> 정상 복귀도 여기서 반영)
+    public void checkReplicas() {
+        for (ReplicaTarget replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    if (!replica.healthy) {
+                        log.info("Read replica {} is healthy again.", replica.name);
+                    }
+                    replica.healthy = true;
+                } else {
+                    markUnhealthy(replica, null);
+                }
+            } catch (SQLException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+    }
+
+    public long healthyReplicaCount() {
+        return replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    private void markUnhealthy(ReplicaTarget replica, SQLException e) {
+        if (replica.healthy) {
+            log.warn("Read replica {} marked unhealthy, routing reads elsewhere. Error: {}",
+                    replica.name, e != null ? e.getMessage() : "connection is not valid");
+        }
+        replica.healthy = false;
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source. Error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static final class ReplicaTarget {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private ReplicaTarget(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
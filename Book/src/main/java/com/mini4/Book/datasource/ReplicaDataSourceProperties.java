@@ -0,0 +1,35 @@
+package com.mini4.Book.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기 복제본 라우팅 설정 (book.datasource.*). 주 DB 는 spring.datasource.* 를 그대로 사용
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "book.datasource")
+public class ReplicaDataSourceProperties {
+
+    private Routing routing = new Routing();
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Routing {
+        private boolean enabled = false;
+        private long readYourWritesMs = 3000;      // 쓰기 후 같은 사용자의 읽기를 주 DB 로 보내는 시간 (0: 사용 안 함)
+        private long healthCheckIntervalMs = 5000; // 복제본 상태 확인 주기
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -2,6 +2,7 @@ package com.mini4.Book.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.CreatedDate;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class) // JPA Auditing 활성화
+@DynamicUpdate // 변경된 컬럼만 UPDATE (가격만 바뀐 경우 content 등 큰 컬럼을 다시 쓰지 않음)
 public class Book {
 
     @Id
@@ -59,6 +61,11 @@ public class Book {
 
     private LocalDateTime deletedAt; // Soft Delete용
 
+    // 낙관적 잠금: 수정 시 WHERE version = ? 로 확인하고 1 증가 (다른 요청이 먼저 수정했으면 충돌)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public Book(String title, String author, String publisher, String publishedDate, String content, Integer price, String category, String imageUrl, User user) {
         this.title = title;
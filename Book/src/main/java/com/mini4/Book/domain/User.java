@@ -9,7 +9,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_table")
+@Table(name = "user_table", uniqueConstraints = {
+        // 이름은 V5 마이그레이션과 같아야 함 (UserServiceImpl 이 위반한 제약 이름으로 중복 항목을 판단)
+        @UniqueConstraint(name = "uk_user_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_user_name", columnNames = "name")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,13 +24,13 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
     @Column(nullable = false)
     private String password; // 암호화된 비밀번호 저장
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(updatable = false)
@@ -0,0 +1,14 @@
+package com.mini4.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 도서 일괄 조회 결과 (위시리스트, 최근 본 도서 등)
+@Getter
+@AllArgsConstructor
+public class BookBatchResponseDto {
+    private List<BookResponseDto> books; // 요청한 ID 순서 (중복 ID 는 한 번만)
+    private List<Long> missingIds;       // 없거나 삭제된 도서 ID (요청 순서)
+}
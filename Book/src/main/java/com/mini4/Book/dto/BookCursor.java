@@ -0,0 +1,51 @@
+package com.mini4.Book.dto;
+
+import com.mini4.Book.domain.Book;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋 페이징 커서 (createdAt, id). 클라이언트에는 불투명한 Base64 URL 문자열로만 노출합니다.
+@Getter
+@RequiredArgsConstructor
+public class BookCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static BookCursor of(Book book) {
+        return new BookCursor(book.getCreatedAt(), book.getId());
+    }
+
+    public static BookCursor of(BookSummaryDto summary) {
+        return new BookCursor(summary.getCreatedAt(), summary.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 비어 있으면 null (첫 페이지), 형식이 잘못되었으면 IllegalArgumentException
+    public static BookCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new BookCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.mini4.Book.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// 도서 내보내기 요청 파라미터 (?format=&updatedSince=&ownerId=&includeDeleted=&gzip=)
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookExportRequestDto {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedSince; // 이 시각 이후 수정된 도서만 (예: 2024-01-01T00:00:00, 증분 내보내기)
+    private Long ownerId;               // 특정 사용자가 등록한 도서만
+    private boolean includeDeleted;     // true: Soft Delete 된 도서도 포함 (본인 도서만 가능)
+    private boolean gzip;               // true: gzip 압축 파일(.ndjson.gz / .csv.gz)로 내려받기
+    private String format = "ndjson";   // ndjson | csv
+
+    public boolean isCsv() {
+        return "csv".equalsIgnoreCase(format);
+    }
+
+    public boolean isNdjson() {
+        return "ndjson".equalsIgnoreCase(format);
+    }
+}
@@ -0,0 +1,31 @@
+package com.mini4.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 도서 목록 옆에 표시할 카테고리별/가격대별 도서 수 (삭제된 도서 제외)
+@Getter
+@AllArgsConstructor
+public class BookFacetsDto {
+    private long totalCount;
+    private List<CategoryCount> categories;   // 도서 수 내림차순 (category 가 null 이면 미분류)
+    private List<PriceRangeCount> priceRanges; // 가격 오름차순 (가격이 없는 도서는 포함하지 않음)
+
+    @Getter
+    @AllArgsConstructor
+    public static class CategoryCount {
+        private String category;
+        private long count;
+    }
+
+    // minPrice 이상 maxPrice 미만 (null: 제한 없음)
+    @Getter
+    @AllArgsConstructor
+    public static class PriceRangeCount {
+        private Integer minPrice;
+        private Integer maxPrice;
+        private long count;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mini4.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 대량 등록 결과 (행 단위 오류는 최대 maxErrors 개까지만 담고, 개수는 failedRows 로 집계)
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookImportResultDto {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private long elapsedMillis;
+    private List<RowError> errors = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;      // 원본 파일의 줄 번호 (1부터 시작, CSV 헤더 포함)
+        private String message;
+    }
+}
@@ -0,0 +1,39 @@
+package com.mini4.Book.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.util.StringUtils;
+
+// 도서 목록 조회 요청 파라미터 (?cursor=&size=&withTotal=&view=, 필터: &category=&minPrice=&maxPrice=&publisher=&ownerId=)
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookListRequestDto {
+    private String cursor;      // 이전 응답의 nextCursor (없으면 첫 페이지)
+    private Integer size;       // 페이지 크기 (없으면 기본값, 최대값 초과 시 최대값으로 제한)
+    private boolean withTotal;  // true 인 경우에만 전체 개수(totalCount)를 함께 반환
+    private String view;        // full (기본값, BookResponseDto) 또는 summary (BookSummaryDto, content 제외)
+
+    // 필터 (모두 선택 사항, 지정한 조건을 모두 만족하는 도서만 조회)
+    private String category;
+    private Integer minPrice;   // 이상
+    private Integer maxPrice;   // 이하
+    private String publisher;
+    private Long ownerId;       // 등록한 사용자 ID (내 도서 목록에서는 무시)
+
+    public boolean hasFilters() {
+        return StringUtils.hasText(category) || minPrice != null || maxPrice != null
+                || StringUtils.hasText(publisher) || ownerId != null;
+    }
+
+    public boolean isSummaryView() {
+        if (!StringUtils.hasText(view) || "full".equalsIgnoreCase(view)) {
+            return false;
+        }
+        if ("summary".equalsIgnoreCase(view)) {
+            return true;
+        }
+        throw new IllegalArgumentException("view 파라미터는 full 또는 summary 여야 합니다.");
+    }
+}
@@ -9,10 +9,21 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
-public class BookListResponseDto {
-    private List<BookResponseDto> books;
+// T: BookResponseDto (전체) 또는 BookSummaryDto (view=summary)
+public class BookListResponseDto<T> {
+    private List<T> books;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private Long totalCount;   // withTotal=true 로 요청한 경우에만 채워짐
 
-    public BookListResponseDto(List<BookResponseDto> books) {
+    public BookListResponseDto(List<T> books) {
         this.books = books;
     }
-}
\ No newline at end of file
+
+    public BookListResponseDto(List<T> books, String nextCursor, Long totalCount) {
+        this.books = books;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.totalCount = totalCount;
+    }
+}
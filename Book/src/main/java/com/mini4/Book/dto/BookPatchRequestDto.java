@@ -0,0 +1,82 @@
+package com.mini4.Book.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// 도서 부분 수정 요청 (JSON Merge Patch, RFC 7396)
+// - 본문에 포함된 필드만 변경하고, 값이 null 이면 해당 값을 지움 (포함 여부는 setter 호출로 기록)
+// - 없는 필드가 들어오면 unknownFields 에 모아 400 으로 응답
+@Getter
+public class BookPatchRequestDto {
+    private String title;
+    private String author;
+    private String publisher;
+    private String publishedDate;
+    private String content;
+    private Integer price;
+    private String category;
+    private String imageUrl;
+
+    @JsonIgnore
+    private final Set<String> presentFields = new HashSet<>();
+    @JsonIgnore
+    private final Set<String> unknownFields = new LinkedHashSet<>();
+
+    public boolean has(String field) {
+        return presentFields.contains(field);
+    }
+
+    public boolean isEmpty() {
+        return presentFields.isEmpty();
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        presentFields.add("title");
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+        presentFields.add("author");
+    }
+
+    public void setPublisher(String publisher) {
+        this.publisher = publisher;
+        presentFields.add("publisher");
+    }
+
+    public void setPublishedDate(String publishedDate) {
+        this.publishedDate = publishedDate;
+        presentFields.add("publishedDate");
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        presentFields.add("content");
+    }
+
+    public void setPrice(Integer price) {
+        this.price = price;
+        presentFields.add("price");
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+        presentFields.add("category");
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+        presentFields.add("imageUrl");
+    }
+
+    @JsonAnySetter
+    public void setUnknownField(String name, Object value) {
+        unknownFields.add(name);
+    }
+}
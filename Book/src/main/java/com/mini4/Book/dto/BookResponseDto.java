@@ -25,6 +25,7 @@ public class BookResponseDto {
     private String authorName; // 책을 등록한 사용자 이름 (User 엔티티에서 가져옴)
     private Long authorId;     // 책을 등록한 사용자 ID
     private LocalDateTime deletedAt; // Soft Delete용 필드
+    private Long version;    // 낙관적 잠금 버전 (ETag 에 포함, PATCH 의 If-Match 로 전달)
 
     public BookResponseDto(Book book) {
         this.id = book.getId();
@@ -41,5 +42,25 @@ public class BookResponseDto {
         this.authorName = book.getUser() != null ? book.getUser().getName() : "Unknown";
         this.authorId = book.getUser() != null ? book.getUser().getId() : null;
         this.deletedAt = book.getDeletedAt();
+        this.version = book.getVersion();
+    }
+
+    // 조건부 UPDATE 로 수정한 경우: 엔티티를 다시 읽지 않고 요청 값과 UPDATE 에 쓴 값으로 응답 생성
+    public BookResponseDto(Long id, BookRequestDto request, Long ownerId, String ownerName,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.title = request.getTitle();
+        this.author = request.getAuthor();
+        this.publisher = request.getPublisher();
+        this.publishedDate = request.getPublishedDate();
+        this.content = request.getContent();
+        this.price = request.getPrice();
+        this.category = request.getCategory();
+        this.imageUrl = request.getImageUrl();
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.authorName = ownerName;
+        this.authorId = ownerId;
+        this.version = version;
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.mini4.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 목록 카드용 요약 DTO (content 등 큰 컬럼 제외). JPQL 생성자 표현식(select new ...)으로 필요한 컬럼만 조회합니다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSummaryDto {
+    private Long id;
+    private String title;
+    private String author;
+    private String category;
+    private Integer price;
+    private String imageUrl;
+    private String authorName;       // 책을 등록한 사용자 이름
+    private LocalDateTime createdAt; // 키셋 페이징 커서 계산용
+}
@@ -0,0 +1,16 @@
+package com.mini4.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 표지 업로드 결과 (url 을 도서 등록/수정 요청의 imageUrl 로 사용)
+@Getter
+@AllArgsConstructor
+public class CoverUploadResponseDto {
+    private String id;           // 이미지 내용의 SHA-256 (같은 이미지는 같은 ID)
+    private String url;          // 원본
+    private String thumbnailUrl; // 썸네일 (생성 전이거나 지원하지 않는 형식이면 원본을 제공)
+    private String contentType;
+    private long size;
+    private boolean duplicate;   // 이미 저장되어 있던 이미지
+}
@@ -0,0 +1,16 @@
+package com.mini4.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 회원가입 전 이메일/이름 사용 가능 여부 (요청하지 않은 항목은 null)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserAvailabilityDto {
+    private Boolean emailAvailable;
+    private Boolean nameAvailable;
+}
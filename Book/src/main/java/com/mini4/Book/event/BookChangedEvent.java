@@ -0,0 +1,37 @@
+package com.mini4.Book.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 도서 생성/수정/삭제 이벤트. BookServiceImpl 에서 발행하고, 커밋 이후 캐시 무효화 등에 사용합니다.
+// 다른 노드에서 Redis pub/sub 으로 전달받은 이벤트는 remote = true 로 다시 발행됩니다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, IMPORTED } // IMPORTED: 대량 등록 (bookId 없음)
+
+    private Long bookId;
+    private Type type;
+    private boolean remote;
+
+    public static BookChangedEvent created(Long bookId) {
+        return new BookChangedEvent(bookId, Type.CREATED, false);
+    }
+
+    public static BookChangedEvent updated(Long bookId) {
+        return new BookChangedEvent(bookId, Type.UPDATED, false);
+    }
+
+    public static BookChangedEvent deleted(Long bookId) {
+        return new BookChangedEvent(bookId, Type.DELETED, false);
+    }
+
+    public static BookChangedEvent imported() {
+        return new BookChangedEvent(null, Type.IMPORTED, false);
+    }
+}
@@ -3,9 +3,12 @@ package com.mini4.Book.exception;
 import com.mini4.Book.dto.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException; // 이 부분을 임포트
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
@@ -41,6 +44,17 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 400 Bad Request (@Valid 요청 본문 검증 실패)
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponse<Void>> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex, WebRequest request) {
+        FieldError fieldError = ex.getBindingResult().getFieldError();
+        String message = fieldError != null ? fieldError.getDefaultMessage() : "요청 값이 올바르지 않습니다.";
+        return new ResponseEntity<>(
+                ApiResponse.error(message),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
     // 401 Unauthorized (로그인 실패, 유효하지 않은 토큰 등)
     // BadCredentialsException 추가하여 Spring Security의 인증 실패도 여기서 처리
     @ExceptionHandler({InvalidCredentialsException.class, UnauthorizedException.class, BadCredentialsException.class})
@@ -62,6 +76,14 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 503 Service Unavailable (일시적 과부하, Retry-After 초 뒤 재시도)
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceBusyException(ServiceBusyException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     // 500 Internal Server Error (모든 예상치 못한 예외)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGlobalException(Exception ex, WebRequest request) {
@@ -0,0 +1,18 @@
+package com.mini4.Book.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 서버가 일시적으로 처리 한도를 넘은 경우 (예: 비밀번호 해싱 대기열 가득 참). Retry-After 초 뒤 재시도 권장
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE) // 503 Service Unavailable
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
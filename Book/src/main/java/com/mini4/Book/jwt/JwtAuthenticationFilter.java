@@ -1,5 +1,6 @@
 package com.mini4.Book.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -40,10 +42,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
 
-        // 2. validateToken으로 토큰 유효성 검사
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // 토큰이 유효할 경우 토큰에서 Authentication 객체를 가져와 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        // 2. 토큰 서명/만료 검증 (한 번만 파싱하고 검증된 Claims를 그대로 사용)
+        Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.verify(token) : null;
+        // 3. 로그아웃된 토큰인지 확인 (Bloom 필터 양성일 때만 Redis 조회)
+        if (claims != null && tokenBlacklist.isRevoked(jwtTokenProvider.getTokenId(claims, token))) {
+            log.debug("로그아웃된 JWT 토큰입니다. URI: {}", requestURI);
+            claims = null;
+        }
+        if (claims != null) {
+            // 토큰이 유효할 경우 Claims에서 Authentication 객체를 만들어 SecurityContext에 저장
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.debug("Security Context에 '{}' 인증 정보를 저장했습니다, URI: {}", authentication.getName(), requestURI);
         } else {
@@ -1,8 +1,15 @@
 package com.mini4.Book.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mini4.Book.security.CustomUserDetails;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,25 +20,97 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String AUTHORITIES_CLAIM = "auth";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String NAME_CLAIM = "name";
+
     private final Key key; // JWT 서명에 사용할 키
+    private final JwtParser jwtParser; // 스레드 안전한 파서 (요청마다 parserBuilder()로 새로 만들지 않음)
     private final UserDetailsService userDetailsService;
+    private final boolean statelessPrincipal; // true: 토큰 클레임으로 principal 생성 (DB 조회 없음)
+
+    // 최근 검증에 성공한 토큰의 Claims (키: 토큰 SHA-256 해시, 토큰의 exp 시각에 만료)
+    // 같은 토큰으로 반복 요청할 때 서명(HMAC) 검증과 JSON 파싱을 건너뜁니다.
+    private final Cache<String, Claims> verifiedTokens;
+
+    // 검증 지연 시간 jwt.validation{outcome=cached|valid|invalid}, 실패 수 jwt.validation.failures{reason}
+    private final Timer cachedTimer;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+    private final Counter invalidSignatureCounter;
+    private final Counter expiredCounter;
+    private final Counter unsupportedCounter;
+    private final Counter malformedCounter;
 
     // application.yml에서 secret 값 주입 (base64 인코딩된 값)
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
-                            UserDetailsService userDetailsService) { // 주입
+                            @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal,
+                            @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize,
+                            UserDetailsService userDetailsService, // 주입
+                            MeterRegistry meterRegistry) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.statelessPrincipal = statelessPrincipal;
         this.userDetailsService = userDetailsService; // 필드 초기화
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(tokenHash, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.cachedTimer = validationTimer(meterRegistry, "cached");
+        this.validTimer = validationTimer(meterRegistry, "valid");
+        this.invalidTimer = validationTimer(meterRegistry, "invalid");
+        this.invalidSignatureCounter = failureCounter(meterRegistry, "invalid_signature");
+        this.expiredCounter = failureCounter(meterRegistry, "expired");
+        this.unsupportedCounter = failureCounter(meterRegistry, "unsupported");
+        this.malformedCounter = failureCounter(meterRegistry, "malformed");
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.validation")
+                .description("JWT signature/expiry validation latency")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("jwt.validation.failures")
+                .description("Rejected JWTs by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
     }
 
     // JWT 토큰 생성
@@ -45,10 +124,19 @@ public class JwtTokenProvider {
         // Access Token 만료 시간 설정 (예: 30분)
         Date accessTokenExpiresIn = new Date(now + 1000 * 60 * 30); // 30분
 
-        String accessToken = Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 토큰 ID (jti, 로그아웃 블랙리스트 키)
                 .setSubject(authentication.getName()) // 토큰 제목 (여기서는 사용자 ID 또는 이메일)
-                .claim("auth", authorities) // 권한 정보 (예: "ROLE_USER")
-                .setExpiration(accessTokenExpiresIn) // 만료 시간
+                .claim(AUTHORITIES_CLAIM, authorities) // 권한 정보 (예: "ROLE_USER")
+                .setExpiration(accessTokenExpiresIn); // 만료 시간
+
+        // 요청마다 사용자를 DB에서 조회하지 않도록 사용자 ID와 이름을 클레임에 포함
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            builder.claim(USER_ID_CLAIM, userDetails.getUserId())
+                    .claim(NAME_CLAIM, userDetails.getUserName());
+        }
+
+        String accessToken = builder
                 .signWith(key, SignatureAlgorithm.HS256) // 서명 (비밀키 사용)
                 .compact();
 
@@ -72,19 +160,30 @@ public class JwtTokenProvider {
 
     // JWT 토큰을 복호화하여 인증 객체(Authentication) 반환
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
-        if (claims.get("auth") == null) {
+    // 검증된 Claims로 인증 객체(Authentication) 생성 (토큰을 다시 파싱하지 않음)
+    public Authentication getAuthentication(Claims claims) {
+        if (claims.get(AUTHORITIES_CLAIM) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
         Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
+                Arrays.stream(claims.get(AUTHORITIES_CLAIM).toString().split(","))
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        // claims.getSubject() (사용자 이메일)을 통해 CustomUserDetailsService에서 UserDetails를 로드
-        UserDetails principal = userDetailsService.loadUserByUsername(claims.getSubject());
+        UserDetails principal;
+        Object userId = claims.get(USER_ID_CLAIM);
+        if (statelessPrincipal && userId instanceof Number && claims.get(NAME_CLAIM) != null) {
+            // 서명이 검증된 클레임만으로 principal 생성 (DB 조회 없음)
+            principal = CustomUserDetails.fromClaims(((Number) userId).longValue(),
+                    claims.get(NAME_CLAIM, String.class), claims.getSubject());
+        } else {
+            // uid/name 클레임이 없는 이전 토큰: claims.getSubject() (사용자 이메일)로 UserDetails를 로드
+            principal = userDetailsService.loadUserByUsername(claims.getSubject());
+        }
 
         // principal이 CustomUserDetails 타입이므로, 올바르게 설정됩니다.
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
@@ -92,25 +191,57 @@ public class JwtTokenProvider {
 
     // 토큰 정보 검증
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    // 토큰 서명/만료를 한 번만 검증하고 Claims 반환 (유효하지 않으면 null)
+    // 검증에 성공한 토큰은 만료 시각까지 캐시되어, 같은 토큰의 다음 요청은 HMAC 검증 없이 처리됩니다.
+    public Claims verify(String token) {
+        long startedAt = System.nanoTime();
+        if (token == null || token.isEmpty()) {
+            log.info("JWT 토큰이 잘못되었습니다.");
+            malformedCounter.increment();
+            invalidTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return null;
+        }
+        String tokenHash = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            cachedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return cached;
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(tokenHash, claims);
+            }
+            validTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.", e);
+            invalidSignatureCounter.increment();
         } catch (ExpiredJwtException e) {
             log.info("만료된 JWT 토큰입니다.", e);
+            expiredCounter.increment();
         } catch (UnsupportedJwtException e) {
             log.info("지원되지 않는 JWT 토큰입니다.", e);
+            unsupportedCounter.increment();
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.", e);
+            malformedCounter.increment();
         }
-        return false;
+        invalidTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return null;
     }
 
     // Access Token에서 Claims 추출 (만료된 토큰의 경우에도 클레임을 가져오기 위해)
     public Claims parseClaims(String accessToken) { // private -> public으로 변경
+        Claims cached = verifiedTokens.getIfPresent(hash(accessToken));
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -118,11 +249,31 @@ public class JwtTokenProvider {
 
     // Access Token의 남은 만료 시간 (ms)
     public Long getExpiration(String accessToken) {
+        return getExpiration(parseClaims(accessToken));
+    }
+
+    // 검증된 Claims의 남은 만료 시간 (ms)
+    public Long getExpiration(Claims claims) {
         // Access Token 만료 시간
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody().getExpiration();
+        Date expiration = claims.getExpiration();
         // 현재 시간
         Long now = new Date().getTime();
         // 남은 시간 계산
         return (expiration.getTime() - now);
     }
+
+    // 블랙리스트 키로 사용할 토큰 ID (jti). jti 가 없는 이전 토큰은 토큰 해시를 사용
+    public String getTokenId(Claims claims, String token) {
+        return claims.getId() != null ? claims.getId() : hash(token);
+    }
+
+    // 캐시 키로 사용할 토큰 해시 (원본 토큰 문자열을 메모리에 보관하지 않음)
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,190 @@
+package com.mini4.Book.jwt;
+
+import com.mini4.Book.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 로그아웃된 Access Token 블랙리스트 (Redis 키: BL:{jti}, 토큰 남은 만료 시간만큼 유지)
+// - 요청마다 Redis 를 조회하지 않도록 노드별 Bloom 필터를 앞에 두고, 필터가 양성일 때만 Redis 를 확인합니다.
+// - 다른 노드의 로그아웃은 Redis pub/sub 으로 받아 필터에 추가하고, 기동 시와 주기적으로 BL:* 를 SCAN 해 필터를 다시 만듭니다.
+//   (주기적 재구성으로 pub/sub 누락분을 보정하고 만료된 항목을 필터에서 정리)
+// - 기동 시 첫 재구성이 실패하면 (Redis 미기동 등) 짧은 간격부터 늘려 가며 다시 시도합니다.
+// - Redis 조회가 실패했을 때 토큰을 허용할지(fail open) 차단할지(fail closed)는 jwt.blacklist.fail-open 으로 지정합니다.
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String KEY_PREFIX = "BL:";
+    public static final ChannelTopic TOPIC = new ChannelTopic("token:revoked");
+
+    // 첫 재구성 재시도 간격 (1초부터 2배씩, 최대 30초)
+    private static final long INITIAL_RETRY_MIN_MS = 1000;
+    private static final long INITIAL_RETRY_MAX_MS = 30000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final TaskScheduler taskScheduler;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final boolean failOpen;
+
+    private volatile BloomFilter filter;
+    private volatile boolean loaded; // Redis 에서 한 번이라도 재구성에 성공했는지 (실패 상태에서는 모든 토큰을 Redis 로 확인)
+
+    // 재구성 중 추가된 jti (새 필터로 교체한 뒤 다시 반영)
+    // 로그아웃 요청 스레드(가상 스레드일 수 있음)가 경합하므로 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<String> addedDuringRebuild = new HashSet<>(); // lock 으로 보호
+    private boolean rebuilding; // lock 으로 보호
+
+    public TokenBlacklist(StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer redisMessageListenerContainer,
+                          TaskScheduler taskScheduler,
+                          @Value("${jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+                          @Value("${jwt.blacklist.false-positive-rate:0.001}") double falsePositiveRate,
+                          @Value("${jwt.blacklist.fail-open:false}") boolean failOpen) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.taskScheduler = taskScheduler;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.failOpen = failOpen;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, TOPIC);
+    }
+
+    // 토큰을 블랙리스트에 추가하고 다른 노드에 알림
+    public void revoke(String tokenId, long ttlMillis) {
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "logout", ttlMillis, TimeUnit.MILLISECONDS);
+        addLocal(tokenId);
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), tokenId);
+        } catch (Exception e) {
+            // 다른 노드는 다음 주기적 재구성에서 반영
+            log.warn("Failed to broadcast token revocation (jti: {}). Error: {}", tokenId, e.getMessage());
+        }
+    }
+
+    // 블랙리스트 여부. Bloom 필터가 음성이면 Redis 조회 없이 false,
+    // 양성이거나 필터를 아직 만들지 못했으면 Redis 로 확인하며, Redis 오류 시에는 fail-open 설정에 따름
+    // (필터를 만든 뒤에는 양성인 토큰만 Redis 를 조회하므로 설정의 영향은 대부분 기동 직후 Redis 장애 구간에 한정)
+    public boolean isRevoked(String tokenId) {
+        if (loaded && !filter.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (Exception e) {
+            log.warn("Token blacklist lookup failed, {} token (jti: {}). Error: {}",
+                    failOpen ? "allowing" : "rejecting", tokenId, e.getMessage());
+            return !failOpen;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        loadWithRetry(INITIAL_RETRY_MIN_MS);
+    }
+
+    // 첫 재구성이 성공할 때까지 재시도 (그동안은 모든 토큰을 Redis 로 확인하므로 주기적 재구성까지 기다리지 않음)
+    private void loadWithRetry(long delayMs) {
+        if (loaded || rebuildFilter()) {
+            return;
+        }
+        log.warn("Token blacklist filter is not loaded yet, retrying in {} ms.", delayMs);
+        long nextDelayMs = Math.min(delayMs * 2, INITIAL_RETRY_MAX_MS);
+        taskScheduler.schedule(() -> loadWithRetry(nextDelayMs), Instant.now().plusMillis(delayMs));
+    }
+
+    // BL:* 키를 SCAN 해 새 필터를 만든 뒤 교체 (만료된 jti 정리)
+    @Scheduled(initialDelayString = "${jwt.blacklist.rebuild-interval-ms:300000}",
+            fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        rebuildFilter();
+    }
+
+    private boolean rebuildFilter() {
+        lock.lock();
+        try {
+            addedDuringRebuild.clear();
+            rebuilding = true;
+        } finally {
+            lock.unlock();
+        }
+        BloomFilter fresh = new BloomFilter(expectedInsertions, falsePositiveRate);
+        long count = 0;
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+                while (keys.hasNext()) {
+                    fresh.add(keys.next().substring(KEY_PREFIX.length()));
+                    count++;
+                }
+            }
+            lock.lock();
+            try {
+                addedDuringRebuild.forEach(fresh::add);
+                filter = fresh;
+            } finally {
+                lock.unlock();
+            }
+            loaded = true;
+            log.info("Token blacklist filter rebuilt: {} revoked tokens.", count);
+            return true;
+        } catch (Exception e) {
+            // 기존 필터 유지. 아직 한 번도 만들지 못했다면 모든 토큰을 Redis 로 확인
+            log.warn("Token blacklist filter rebuild failed, will retry. Error: {}", e.getMessage());
+            return false;
+        } finally {
+            lock.lock();
+            try {
+                rebuilding = false;
+                addedDuringRebuild.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 로그아웃은 드물기 때문에 추가와 필터 교체만 동기화 (조회는 락 없이 처리)
+    private void addLocal(String tokenId) {
+        lock.lock();
+        try {
+            filter.add(tokenId);
+            if (rebuilding) {
+                addedDuringRebuild.add(tokenId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.mini4.Book.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+// Redis 명령 지연 시간
+// 메트릭: redis.operations{operation, endpoint, outcome} (백분위 히스토그램 포함)
+@Component
+@RequiredArgsConstructor
+public class RedisMetrics {
+
+    public static final String METRIC_NAME = "redis.operations";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String operation, Supplier<T> command) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable error = null;
+        try {
+            return command.get();
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Redis command latency")
+                    .tag("operation", operation)
+                    .tag(RequestTags.ENDPOINT, RequestTags.endpoint())
+                    .tag(RequestTags.OUTCOME, RequestTags.outcome(error))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(String operation, Runnable command) {
+        record(operation, () -> {
+            command.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.mini4.Book.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 메트릭 공통 태그 값
+// endpoint: "GET /api/v1/books/{id}" 처럼 URI 템플릿 기준 (카디널리티 제한), 요청 밖(스케줄러 등)이면 "none"
+public final class RequestTags {
+
+    public static final String ENDPOINT = "endpoint";
+    public static final String OUTCOME = "outcome";
+    public static final String SUCCESS = "success";
+    public static final String NONE = "none";
+    public static final String UNMAPPED = "unmapped";
+
+    private RequestTags() {
+    }
+
+    public static String endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return endpoint(servletAttributes.getRequest());
+        }
+        return NONE;
+    }
+
+    public static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNMAPPED; // 핸들러 매핑 전 (필터 단계) 이거나 매핑되지 않은 요청
+        }
+        return request.getMethod() + " " + pattern;
+    }
+
+    // 예외 결과 태그 (예외 클래스 이름, 예: NoSuchElementException)
+    public static String outcome(Throwable error) {
+        return error == null ? SUCCESS : error.getClass().getSimpleName();
+    }
+}
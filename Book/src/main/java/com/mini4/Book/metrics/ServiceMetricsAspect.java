@@ -0,0 +1,43 @@
+package com.mini4.Book.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// BookService / UserService 인터페이스에 선언된 모든 메서드 실행 시간 (이벤트 리스너 등 구현체 전용 메서드 제외)
+// 메트릭: book.service.calls{service, method, endpoint, outcome} (백분위 히스토그램 포함)
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "book.service.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.mini4.Book.service.BookService.*(..))"
+            + " || execution(public * com.mini4.Book.service.UserService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("BookService/UserService method latency")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag(RequestTags.ENDPOINT, RequestTags.endpoint())
+                    .tag(RequestTags.OUTCOME, RequestTags.outcome(error))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mini4.Book.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 요청 하나에서 Hibernate 가 실행한 SQL 문 수 (N+1 감지용)
+// 메트릭: hibernate.request.statements{endpoint, outcome}
+// 보안 필터(JWT 인증 중 사용자 조회 등)까지 포함하도록 가장 바깥에서 실행
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "hibernate.request.statements";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCountingInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Hibernate SQL statements executed per HTTP request")
+                    .tag(RequestTags.ENDPOINT, RequestTags.endpoint(request))
+                    .tag(RequestTags.OUTCOME, Outcome.forStatus(response.getStatus()).name())
+                    .register(meterRegistry)
+                    .record(StatementCountingInspector.current());
+            StatementCountingInspector.clear();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
@@ -0,0 +1,28 @@
+package com.mini4.Book.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 실행하는 SQL 문 수를 현재 스레드 기준으로 집계 (StatementCountFilter 가 요청 단위로 초기화/기록)
+// SQL 은 변경하지 않고 그대로 반환합니다.
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+}
@@ -0,0 +1,121 @@
+package com.mini4.Book.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+// 버전별 스키마 마이그레이션 (Flyway 와 같은 파일 규칙: V{버전}__{설명}.sql)
+// - 적용한 버전은 schema_history 테이블에 체크섬과 함께 기록하고, 아직 적용하지 않은 버전만 순서대로 실행
+// - 이미 적용된 스크립트의 내용이 바뀌면 기동 실패 (변경은 항상 새 버전 파일로 추가)
+@Slf4j
+public class SchemaMigrator {
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+    private static final String HISTORY_TABLE = "schema_history";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String location;
+
+    public SchemaMigrator(DataSource dataSource, String location) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.location = location;
+    }
+
+    public void migrate() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " ("
+                + "version INT PRIMARY KEY, description VARCHAR(200) NOT NULL, checksum BIGINT NOT NULL, "
+                + "installed_at TIMESTAMP NOT NULL, execution_ms BIGINT NOT NULL)");
+        Map<Integer, Long> applied = jdbcTemplate.query("SELECT version, checksum FROM " + HISTORY_TABLE,
+                (rs, rowNum) -> new long[]{rs.getInt(1), rs.getLong(2)}).stream()
+                .collect(Collectors.toMap(row -> (int) row[0], row -> row[1]));
+
+        int count = 0;
+        for (Migration migration : findMigrations()) {
+            Long checksum = applied.get(migration.version);
+            if (checksum != null) {
+                if (checksum != migration.checksum) {
+                    throw new IllegalStateException("이미 적용된 마이그레이션이 변경되었습니다: " + migration.resource.getFilename());
+                }
+                continue;
+            }
+            apply(migration);
+            count++;
+        }
+        log.info("Schema migrations: {} applied, {} already up to date.", count, applied.size());
+    }
+
+    private void apply(Migration migration) {
+        long startedAt = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.resource, StandardCharsets.UTF_8));
+        } catch (SQLException e) {
+            throw new IllegalStateException("마이그레이션 실패: " + migration.resource.getFilename(), e);
+        }
+        long elapsed = System.currentTimeMillis() - startedAt;
+        jdbcTemplate.update("INSERT INTO " + HISTORY_TABLE + " (version, description, checksum, installed_at, execution_ms)"
+                        + " VALUES (?, ?, ?, ?, ?)",
+                migration.version, migration.description, migration.checksum,
+                new Timestamp(System.currentTimeMillis()), elapsed);
+        log.info("Applied schema migration V{} ({}) in {} ms", migration.version, migration.description, elapsed);
+    }
+
+    private List<Migration> findMigrations() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(location + "/V*__*.sql");
+        } catch (IOException e) {
+            throw new IllegalStateException("마이그레이션 스크립트를 읽을 수 없습니다: " + location, e);
+        }
+        List<Migration> migrations = new ArrayList<>();
+        for (Resource resource : resources) {
+            Matcher matcher = FILE_NAME.matcher(resource.getFilename());
+            if (!matcher.matches()) {
+                continue;
+            }
+            migrations.add(new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                    checksum(resource), resource));
+        }
+        migrations.sort(Comparator.comparingInt(migration -> migration.version));
+        Map<Integer, Long> versions = migrations.stream()
+                .collect(Collectors.groupingBy(migration -> migration.version, Collectors.counting()));
+        versions.forEach((version, files) -> {
+            if (files > 1) {
+                throw new IllegalStateException("같은 버전의 마이그레이션이 여러 개 있습니다: V" + version);
+            }
+        });
+        return migrations;
+    }
+
+    private static long checksum(Resource resource) {
+        try {
+            CRC32 crc = new CRC32();
+            crc.update(resource.getContentAsByteArray());
+            return crc.getValue();
+        } catch (IOException e) {
+            throw new IllegalStateException("마이그레이션 스크립트를 읽을 수 없습니다: " + resource.getFilename(), e);
+        }
+    }
+
+    private record Migration(int version, String description, long checksum, Resource resource) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.mini4.Book.repository;
+
+import com.mini4.Book.domain.Book;
+import com.mini4.Book.dto.BookSummaryDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// Specification 조건으로 최신순 (createdAt desc, id desc) 목록을 limit 건만 조회 (BookRepository 에 합쳐짐)
+public interface BookFilterRepository {
+
+    // 등록자(User) 를 같은 SELECT 에서 함께 조회
+    List<Book> findFilteredPage(Specification<Book> spec, int limit);
+
+    // 요약 목록: content(TEXT) 를 읽지 않음
+    List<BookSummaryDto> findFilteredSummaryPage(Specification<Book> spec, int limit);
+
+    long countFiltered(Specification<Book> spec);
+}
@@ -0,0 +1,55 @@
+package com.mini4.Book.repository;
+
+import com.mini4.Book.domain.Book;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookSummaryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class BookFilterRepositoryImpl implements BookFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Book> findFilteredPage(Specification<Book> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Book> query = cb.createQuery(Book.class);
+        Root<Book> book = query.from(Book.class);
+        book.fetch("user");
+        query.select(book)
+                .where(spec.toPredicate(book, query, cb))
+                .orderBy(cb.desc(book.get("createdAt")), cb.desc(book.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<BookSummaryDto> findFilteredSummaryPage(Specification<Book> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookSummaryDto> query = cb.createQuery(BookSummaryDto.class);
+        Root<Book> book = query.from(Book.class);
+        Join<Book, User> user = book.join("user");
+        query.select(cb.construct(BookSummaryDto.class,
+                        book.get("id"), book.get("title"), book.get("author"), book.get("category"),
+                        book.get("price"), book.get("imageUrl"), user.get("name"), book.get("createdAt")))
+                .where(spec.toPredicate(book, query, cb))
+                .orderBy(cb.desc(book.get("createdAt")), cb.desc(book.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countFiltered(Specification<Book> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Book> book = query.from(Book.class);
+        query.select(cb.count(book)).where(spec.toPredicate(book, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
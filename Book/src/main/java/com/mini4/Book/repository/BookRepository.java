@@ -1,24 +1,149 @@
 package com.mini4.Book.repository;
 
 import com.mini4.Book.domain.Book;
+import com.mini4.Book.dto.BookSummaryDto;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookFilterRepository {
+
+    // 조회 결과를 BookResponseDto로 변환할 때 등록자(User) 정보가 필요하므로,
+    // 목록/상세 조회는 @EntityGraph로 user를 같은 SELECT에서 함께 가져온다 (도서별 user_table 추가 조회 방지)
 
     // 특정 ID의 도서를 조회하되, deletedAt이 NULL인 경우에만 (Soft Delete 미포함)
+    @EntityGraph(attributePaths = "user")
     Optional<Book> findByIdAndDeletedAtIsNull(Long id);
 
-    // 모든 도서 목록을 조회하되, deletedAt이 NULL인 경우에만 (Soft Delete 미포함)
-    List<Book> findAllByDeletedAtIsNull();
+    // 여러 ID 의 도서를 IN 한 번으로 조회 (일괄 조회 API, 삭제된 도서와 없는 ID 는 결과에서 빠짐, 순서 보장 없음)
+    @EntityGraph(attributePaths = "user")
+    List<Book> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
+    // 키셋 페이징: 최신순 (createdAt desc, id desc) 첫 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("select b from Book b where b.deletedAt is null order by b.createdAt desc, b.id desc")
+    List<Book> findFirstPage(Limit limit);
+
+    // 키셋 페이징: 커서 (createdAt, id) 이후 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("select b from Book b where b.deletedAt is null"
+            + " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))"
+            + " order by b.createdAt desc, b.id desc")
+    List<Book> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // 키셋 페이징: 특정 사용자의 첫 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("select b from Book b where b.user.id = :userId and b.deletedAt is null order by b.createdAt desc, b.id desc")
+    List<Book> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 키셋 페이징: 특정 사용자의 커서 이후 페이지
+    @EntityGraph(attributePaths = "user")
+    @Query("select b from Book b where b.user.id = :userId and b.deletedAt is null"
+            + " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))"
+            + " order by b.createdAt desc, b.id desc")
+    List<Book> findPageAfterByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id, Limit limit);
+
+    // 요약 목록 (view=summary): 목록 카드에 필요한 컬럼만 조회하여 content(TEXT) 컬럼을 읽지 않음
+    String SUMMARY_SELECT = "select new com.mini4.Book.dto.BookSummaryDto("
+            + "b.id, b.title, b.author, b.category, b.price, b.imageUrl, u.name, b.createdAt)"
+            + " from Book b join b.user u";
+
+    @Query(SUMMARY_SELECT + " where b.deletedAt is null order by b.createdAt desc, b.id desc")
+    List<BookSummaryDto> findFirstSummaryPage(Limit limit);
+
+    @Query(SUMMARY_SELECT + " where b.deletedAt is null"
+            + " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))"
+            + " order by b.createdAt desc, b.id desc")
+    List<BookSummaryDto> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + " where u.id = :userId and b.deletedAt is null order by b.createdAt desc, b.id desc")
+    List<BookSummaryDto> findFirstSummaryPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query(SUMMARY_SELECT + " where u.id = :userId and b.deletedAt is null"
+            + " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))"
+            + " order by b.createdAt desc, b.id desc")
+    List<BookSummaryDto> findSummaryPageAfterByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id, Limit limit);
+
+    // 전체 내보내기용 스트림 (호출자는 트랜잭션 안에서 소비 후 닫아야 함)
+    // fetch size 만큼씩 커서로 읽으며, 읽기 전용으로 조회해 변경 감지 스냅샷을 만들지 않음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Book b join fetch b.user u"
+            + " where (:updatedSince is null or b.updatedAt >= :updatedSince)"
+            + " and (:ownerId is null or u.id = :ownerId)"
+            + " and (:includeDeleted = true or b.deletedAt is null)"
+            + " order by b.id")
+    Stream<Book> streamForExport(@Param("updatedSince") LocalDateTime updatedSince, @Param("ownerId") Long ownerId,
+                                 @Param("includeDeleted") boolean includeDeleted);
+
+    // 소유자 조건부 수정/삭제: 엔티티를 읽지 않고 UPDATE 한 번으로 처리 (영향 행 수 0 = 없음/삭제됨/소유자 아님)
+    // 벌크 UPDATE 는 JPA Auditing/@Version 을 거치지 않으므로 updatedAt 을 직접 전달하고 version 을 직접 증가
+    // 수정은 응답에 필요한 등록 시각/새 버전을 같은 문장에서 돌려받음 (H2 데이터 변경 델타 테이블, 결과 없음 = 0 건)
+    // 영속성 컨텍스트를 비우지 않으므로 같은 트랜잭션에서 이 도서 엔티티를 먼저 읽지 않아야 함
+    @Query(value = "select created_at as createdAt, version as version from final table ("
+            + "update book_table set title = :title, author = :author, publisher = :publisher,"
+            + " published_date = :publishedDate, content = :content, price = :price, category = :category,"
+            + " image_url = :imageUrl, updated_at = :updatedAt, version = version + 1"
+            + " where id = :id and user_id = :userId and deleted_at is null)", nativeQuery = true)
+    Optional<WriteStamp> updateIfOwner(@Param("id") Long id, @Param("userId") Long userId,
+                                       @Param("title") String title, @Param("author") String author,
+                                       @Param("publisher") String publisher, @Param("publishedDate") String publishedDate,
+                                       @Param("content") String content, @Param("price") Integer price,
+                                       @Param("category") String category, @Param("imageUrl") String imageUrl,
+                                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    interface WriteStamp {
+        LocalDateTime getCreatedAt();
+
+        Long getVersion();
+    }
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Book b set b.deletedAt = :deletedAt, b.updatedAt = :deletedAt, b.version = b.version + 1"
+            + " where b.id = :id and b.user.id = :userId and b.deletedAt is null")
+    int softDeleteIfOwner(@Param("id") Long id, @Param("userId") Long userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 일괄 삭제 대상 ID 를 행 잠금(SELECT ... FOR UPDATE)과 함께 조회 (ids 가 있으면 그중 본인 도서만)
+    // 같은 트랜잭션에서 이 ID 로만 UPDATE 하므로 동시에 실행된 다른 삭제와 결과가 섞이지 않음 (ID 순서로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id from Book b where b.user.id = :userId and b.deletedAt is null order by b.id")
+    List<Long> findIdsForDeleteByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id from Book b where b.id in :ids and b.user.id = :userId and b.deletedAt is null order by b.id")
+    List<Long> findIdsForDeleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 잠금으로 확보한 ID 를 UPDATE 한 번으로 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("update Book b set b.deletedAt = :deletedAt, b.updatedAt = :deletedAt, b.version = b.version + 1"
+            + " where b.id in :ids and b.deletedAt is null")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 조건부 수정/삭제가 0 건일 때만 호출: 도서가 있으면 소유자 ID (404 와 403 구분용, PK 조회)
+    @Query("select b.user.id from Book b where b.id = :id and b.deletedAt is null")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
 
-    // 특정 사용자가 등록한 도서 목록을 조회하되, deletedAt이 NULL인 경우에만 (Soft Delete 미포함)
-    List<Book> findByUser_IdAndDeletedAtIsNull(Long userId); // 페이징 제거
+    long countByDeletedAtIsNull();
 
-    // 제목 또는 저자를 기준으로 검색하되, deletedAt이 NULL인 경우에만 (Soft Delete 미포함)
-    List<Book> findByTitleContainingOrAuthorContainingAndDeletedAtIsNull(String title, String author);
-}
\ No newline at end of file
+    long countByUser_IdAndDeletedAtIsNull(Long userId);
+}
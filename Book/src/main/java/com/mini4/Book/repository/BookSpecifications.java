@@ -0,0 +1,46 @@
+package com.mini4.Book.repository;
+
+import com.mini4.Book.domain.Book;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// 도서 목록 필터 조건 (BookFilterRepository 와 함께 사용)
+// 조건마다 인덱스가 있음: db/migration V2 (user_id), V3 (category, publisher, price)
+public final class BookSpecifications {
+
+    private BookSpecifications() {
+    }
+
+    // 모든 필터 조회의 시작 조건 (Soft Delete 미포함)
+    public static Specification<Book> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    public static Specification<Book> categoryEquals(String category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Book> publisherEquals(String publisher) {
+        return (root, query, cb) -> cb.equal(root.get("publisher"), publisher);
+    }
+
+    public static Specification<Book> priceAtLeast(int minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<Book> priceAtMost(int maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    public static Specification<Book> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    // 키셋 페이징: 커서 (createdAt, id) 이후 (정렬은 createdAt desc, id desc)
+    public static Specification<Book> after(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+    }
+}
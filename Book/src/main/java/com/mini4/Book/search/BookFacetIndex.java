@@ -0,0 +1,287 @@
+package com.mini4.Book.search;
+
+import com.mini4.Book.dto.BookFacetsDto;
+import com.mini4.Book.event.BookChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 카테고리별/가격대별 도서 수를 메모리에서 유지 (목록 화면마다 GROUP BY 하지 않도록)
+// - 기동 시 book_table 을 한 번 읽어 집계하고, 이후 BookChangedEvent (다른 노드 변경 포함) 로 해당 도서만 다시 읽어 증감
+// - 도서별 (카테고리, 가격대) 를 기억해 두고 변경 전 값을 빼고 새 값을 더함
+// - 도서별 version 도 기억해 두고, 이미 반영한 것보다 오래된 version 은 무시
+//   (두 변경이 연달아 일어나면 먼저 읽은 이전 상태가 나중에 적용될 수 있음)
+// - 이벤트 누락(pub/sub 유실 등)은 주기적으로 DB 에서 다시 집계해 보정
+// - 조회는 마지막 집계 결과를 그대로 반환하고, 변경 후 첫 조회에서만 카테고리 수만큼 다시 만듦
+@Slf4j
+@Component
+public class BookFacetIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int[] priceBounds; // 가격대 경계 (오름차순), 가격대 수 = 경계 수 + 1
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private FacetData data; // lock 으로 보호
+    private final Set<Long> changedDuringRebuild = new HashSet<>(); // lock 으로 보호
+    private boolean rebuilding; // lock 으로 보호
+    private boolean loaded; // lock 으로 보호, 첫 집계 이후 true (이후 재구성은 보정으로 보고 차이를 로그)
+    private volatile BookFacetsDto snapshot; // 변경 시 null
+
+    // 재구성끼리 겹치지 않도록 (기동 시, 주기적 보정, 대량 등록 후)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-facet-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookFacetIndex(JdbcTemplate jdbcTemplate,
+                          @Value("${book.facets.price-bounds:10000,20000,30000,50000}") int[] priceBounds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceBounds = Arrays.stream(priceBounds).sorted().distinct().toArray();
+        this.data = new FacetData(this.priceBounds.length + 1);
+    }
+
+    public BookFacetsDto getFacets() {
+        BookFacetsDto current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = toDto(data);
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.IMPORTED) {
+            // 대량 등록은 추가된 도서 ID 를 알 수 없으므로 다시 집계 (요청 스레드를 막지 않도록 별도 스레드)
+            rebuildExecutor.execute(this::rebuild);
+            return;
+        }
+        Long bookId = event.getBookId();
+        lock.lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(bookId);
+            }
+        } finally {
+            lock.unlock();
+        }
+        // 삭제도 DB 에서 다시 읽음 (삭제 시 올라간 version 으로 순서를 맞춤)
+        refresh(bookId);
+    }
+
+    // book_table 전체를 다시 집계해 교체 (기존 값과 차이가 있으면 이벤트 누락으로 보고 로그)
+    @Scheduled(initialDelayString = "${book.facets.reconcile-interval-ms:300000}",
+            fixedDelayString = "${book.facets.reconcile-interval-ms:300000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        long startedAt = System.currentTimeMillis();
+        lock.lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        Set<Long> changed;
+        FacetData fresh = new FacetData(priceBounds.length + 1);
+        try {
+            jdbcTemplate.query("SELECT id, category, price, version FROM book_table WHERE deleted_at IS NULL",
+                    rs -> {
+                        fresh.put(rs.getLong(1), new FacetKey(rs.getString(2), bucketOf((Integer) rs.getObject(3))), rs.getLong(4));
+                    });
+            long drift;
+            lock.lock();
+            try {
+                // 집계 중 변경이 있었으면 차이가 정상이므로 비교하지 않음
+                drift = loaded && changedDuringRebuild.isEmpty() ? data.differenceFrom(fresh) : 0;
+                loaded = true;
+                data = fresh;
+                snapshot = null;
+                changed = new HashSet<>(changedDuringRebuild);
+            } finally {
+                lock.unlock();
+            }
+            if (drift > 0) {
+                log.warn("Book facet counts reconciled: {} counts differed from the database.", drift);
+            }
+        } catch (Exception e) {
+            log.warn("Book facet rebuild failed, keeping previous counts. Error: {}", e.getMessage());
+            return;
+        } finally {
+            lock.lock();
+            try {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 집계 중 변경된 도서는 새 집계에 반영되지 않았을 수 있으므로 다시 읽음
+        changed.forEach(this::refresh);
+        log.info("Book facets rebuilt: {} books, {} categories in {} ms",
+                fresh.books.size(), fresh.categoryCounts.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // DB 의 현재 상태로 한 도서의 집계를 갱신 (삭제되었으면 제외)
+    private void refresh(Long bookId) {
+        try {
+            jdbcTemplate.query("SELECT category, price, version, deleted_at FROM book_table WHERE id = ?",
+                    rs -> {
+                        if (!rs.next()) {
+                            apply(bookId, null, Long.MAX_VALUE); // 행이 없으면 이후 상태도 없음
+                        } else if (rs.getObject(4) != null) {
+                            apply(bookId, null, rs.getLong(3));
+                        } else {
+                            apply(bookId, new FacetKey(rs.getString(1), bucketOf((Integer) rs.getObject(2))), rs.getLong(3));
+                        }
+                        return null;
+                    },
+                    bookId);
+        } catch (Exception e) {
+            // 다음 주기적 보정에서 반영
+            log.warn("Failed to refresh facet counts for book {}. Error: {}", bookId, e.getMessage());
+        }
+    }
+
+    private void apply(Long bookId, FacetKey key, long version) {
+        lock.lock();
+        try {
+            if (data.put(bookId, key, version)) {
+                snapshot = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int bucketOf(Integer price) {
+        if (price == null) {
+            return FacetKey.NO_PRICE;
+        }
+        int bucket = 0;
+        while (bucket < priceBounds.length && price >= priceBounds[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private BookFacetsDto toDto(FacetData facets) {
+        List<BookFacetsDto.CategoryCount> categories = new ArrayList<>(facets.categoryCounts.size());
+        facets.categoryCounts.forEach((category, count) -> categories.add(new BookFacetsDto.CategoryCount(category, count)));
+        categories.sort(Comparator.comparingLong(BookFacetsDto.CategoryCount::getCount).reversed()
+                .thenComparing(BookFacetsDto.CategoryCount::getCategory, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<BookFacetsDto.PriceRangeCount> priceRanges = new ArrayList<>(facets.priceCounts.length);
+        for (int bucket = 0; bucket < facets.priceCounts.length; bucket++) {
+            Integer min = bucket == 0 ? null : priceBounds[bucket - 1];
+            Integer max = bucket == priceBounds.length ? null : priceBounds[bucket];
+            priceRanges.add(new BookFacetsDto.PriceRangeCount(min, max, facets.priceCounts[bucket]));
+        }
+        return new BookFacetsDto(facets.books.size(), categories, priceRanges);
+    }
+
+    private record FacetKey(String category, int priceBucket) {
+        static final int NO_PRICE = -1;
+    }
+
+    // 도서별 집계 키와 카테고리/가격대별 도서 수
+    private static final class FacetData {
+        private final Map<Long, FacetKey> books = new HashMap<>();
+        private final Map<Long, Long> versions = new HashMap<>(); // 마지막으로 반영한 version (삭제된 도서 포함)
+        private final Map<String, Long> categoryCounts = new HashMap<>(); // null 키: 미분류
+        private final long[] priceCounts;
+
+        private FacetData(int buckets) {
+            this.priceCounts = new long[buckets];
+        }
+
+        // key == null 이면 제거. 이미 반영한 version 보다 오래된 상태면 무시하고 false
+        private boolean put(Long bookId, FacetKey key, long version) {
+            Long applied = versions.get(bookId);
+            if (applied != null && version < applied) {
+                return false;
+            }
+            versions.put(bookId, version);
+            FacetKey old = key == null ? books.remove(bookId) : books.put(bookId, key);
+            if (Objects.equals(old, key)) {
+                return false;
+            }
+            if (old != null) {
+                categoryCounts.computeIfPresent(old.category(), (category, count) -> count > 1 ? count - 1 : null);
+                if (old.priceBucket() != FacetKey.NO_PRICE) {
+                    priceCounts[old.priceBucket()]--;
+                }
+            }
+            if (key != null) {
+                categoryCounts.merge(key.category(), 1L, Long::sum);
+                if (key.priceBucket() != FacetKey.NO_PRICE) {
+                    priceCounts[key.priceBucket()]++;
+                }
+            }
+            return true;
+        }
+
+        // 카테고리/가격대별 도서 수 차이의 합
+        private long differenceFrom(FacetData other) {
+            long difference = 0;
+            Set<String> categories = new HashSet<>(categoryCounts.keySet());
+            categories.addAll(other.categoryCounts.keySet());
+            for (String category : categories) {
+                difference += Math.abs(categoryCounts.getOrDefault(category, 0L) - other.categoryCounts.getOrDefault(category, 0L));
+            }
+            for (int bucket = 0; bucket < priceCounts.length; bucket++) {
+                difference += Math.abs(priceCounts[bucket] - other.priceCounts[bucket]);
+            }
+            return difference;
+        }
+    }
+}
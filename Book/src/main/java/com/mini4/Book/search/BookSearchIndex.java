@@ -0,0 +1,342 @@
+package com.mini4.Book.search;
+
+import com.mini4.Book.datasource.ReadWriteRoutingDataSource;
+import com.mini4.Book.domain.Book;
+import com.mini4.Book.dto.BookSummaryDto;
+import com.mini4.Book.event.BookChangedEvent;
+import com.mini4.Book.repository.BookRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 도서 검색용 인메모리 역색인 (제목/저자/출판사/내용)
+// - 토큰: BookTokenizer 의 문자 바이그램 (+ 색인에는 단어 첫 글자), 순위: 필드 가중치를 적용한 BM25
+// - 검색어의 모든 토큰을 포함하는 도서만 결과에 포함 (LIKE '%검색어%' 와 비슷한 재현율)
+// - 애플리케이션 기동 시 별도 스레드에서 전체 재구성 (완료 전까지 isReady() = false), 이후 BookChangedEvent (다른 노드 변경 포함) 로 증분 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float AUTHOR_WEIGHT = 2.0f;
+    private static final float PUBLISHER_WEIGHT = 1.0f;
+    private static final float CONTENT_WEIGHT = 1.0f;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    // 기동 시 재구성 재시도 간격 (1초부터 2배씩, 최대 30초)
+    private static final long INITIAL_RETRY_MIN_MS = 1000;
+    private static final long INITIAL_RETRY_MAX_MS = 30000;
+
+    private final BookRepository bookRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData(); // lock 으로 보호
+
+    // 재구성 중 변경된 도서 ID (재구성 완료 후 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready; // 전체 재구성이 한 번이라도 끝났는지 (그 전의 검색 결과는 불완전)
+    // 재구성은 DB 를 읽는 동안 락을 잡으므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 증분 반영(DB 조회 + 색인 적용)을 한 번에 하나씩 실행.
+    // 조회와 적용 사이에 다른 변경이 끼어들면 먼저 읽은 이전 상태가 나중에 적용될 수 있으므로,
+    // 조회부터 적용까지 이 락을 잡음 (검색은 막지 않도록 색인 쓰기 락은 적용할 때만 잡음)
+    private final ReentrantLock reindexLock = new ReentrantLock();
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SearchResult search(String query, int limit) {
+        List<String> terms = BookTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> postingLists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Float> postings = data.postings.get(term);
+                if (postings == null) {
+                    return SearchResult.EMPTY; // 포함하지 않는 토큰이 있으면 결과 없음
+                }
+                postingLists.add(postings);
+            }
+            // 가장 짧은 포스팅 목록부터 순회
+            postingLists.sort(Comparator.comparingInt(Map::size));
+
+            int docCount = data.books.size();
+            double avgLength = data.totalLength / docCount;
+            double[] idf = new double[postingLists.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = postingLists.get(i).size();
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            PriorityQueue<ScoredBook> top = new PriorityQueue<>(Comparator.comparingDouble(ScoredBook::score));
+            long totalHits = 0;
+            candidates:
+            for (Long bookId : postingLists.get(0).keySet()) {
+                IndexedBook book = data.books.get(bookId);
+                double score = 0;
+                for (int i = 0; i < postingLists.size(); i++) {
+                    Float tf = postingLists.get(i).get(bookId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    double norm = K1 * (1 - B + B * book.length / avgLength);
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+                totalHits++;
+                top.offer(new ScoredBook(book.summary, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<BookSummaryDto> books = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                books.add(top.poll().summary());
+            }
+            Collections.reverse(books); // 점수 내림차순
+            return new SearchResult(books, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 기동 시 재구성은 도서 수에 비례해 오래 걸리므로 기동(ApplicationReadyEvent 처리)을 막지 않도록 별도 스레드에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildExecutor.execute(this::rebuildUntilReady);
+    }
+
+    // 첫 재구성이 성공할 때까지 재시도 (DB 미기동 등)
+    private void rebuildUntilReady() {
+        long delayMs = INITIAL_RETRY_MIN_MS;
+        while (!ready) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Book search index rebuild failed, retrying in {} ms. Error: {}", delayMs, e.getMessage());
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt(); // 종료 중
+                    return;
+                }
+                delayMs = Math.min(delayMs * 2, INITIAL_RETRY_MAX_MS);
+            }
+        }
+    }
+
+    // 전체 도서를 키셋 페이지 단위로 읽어 새 색인을 만든 뒤 교체
+    // 기동 시 재구성과 대량 등록 후 재구성이 겹치지 않도록 동기화
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        long startedAt = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        IndexData fresh = new IndexData();
+        try {
+            List<Book> page = bookRepository.findFirstPage(Limit.of(REBUILD_PAGE_SIZE));
+            while (!page.isEmpty()) {
+                page.forEach(book -> fresh.add(IndexedBook.from(book)));
+                if (page.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+                Book last = page.get(page.size() - 1);
+                page = bookRepository.findPageAfter(last.getCreatedAt(), last.getId(), Limit.of(REBUILD_PAGE_SIZE));
+            }
+            lock.writeLock().lock();
+            try {
+                data = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+        } finally {
+            rebuilding = false;
+        }
+
+        Set<Long> changed = new HashSet<>(changedDuringRebuild);
+        changedDuringRebuild.clear();
+        changed.forEach(this::reindex);
+        log.info("Book search index rebuilt: {} books, {} terms in {} ms",
+                fresh.books.size(), fresh.postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.IMPORTED) {
+            // 대량 등록은 추가된 도서 ID 를 알 수 없으므로 전체 재구성.
+            // 요청 스레드에서 실행하면 OSIV 영속성 컨텍스트에 읽은 도서가 모두 남으므로 별도 스레드에서 실행
+            rebuildExecutor.execute(this::rebuild);
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getBookId());
+        }
+        if (event.getType() == BookChangedEvent.Type.DELETED) {
+            remove(event.getBookId());
+        } else {
+            reindex(event.getBookId());
+        }
+    }
+
+    // DB 의 현재 상태로 다시 색인 (삭제되었거나 없으면 색인에서 제거)
+    // 변경 직후 호출되므로 복제 지연이 없는 주 DB 에서 조회
+    private void reindex(Long bookId) {
+        reindexLock.lock();
+        try {
+            IndexedBook book = ReadWriteRoutingDataSource.usePrimary(() -> bookRepository.findByIdAndDeletedAtIsNull(bookId)
+                    .map(IndexedBook::from)
+                    .orElse(null));
+            lock.writeLock().lock();
+            try {
+                if (book == null) {
+                    data.remove(bookId);
+                } else {
+                    data.add(book);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            reindexLock.unlock();
+        }
+    }
+
+    private void remove(Long bookId) {
+        reindexLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                data.remove(bookId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            reindexLock.unlock();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchResult {
+        static final SearchResult EMPTY = new SearchResult(List.of(), 0);
+
+        private final List<BookSummaryDto> books;
+        private final long totalHits;
+    }
+
+    private record ScoredBook(BookSummaryDto summary, double score) {
+    }
+
+    // 색인 본체: 토큰 -> (도서 ID -> 가중치 적용 빈도)
+    private static final class IndexData {
+        private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+        private final Map<Long, IndexedBook> books = new HashMap<>();
+        private double totalLength;
+
+        private void add(IndexedBook book) {
+            remove(book.summary.getId());
+            books.put(book.summary.getId(), book);
+            book.termFrequencies.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, k -> new HashMap<>()).put(book.summary.getId(), tf));
+            totalLength += book.length;
+        }
+
+        private void remove(Long bookId) {
+            IndexedBook old = books.remove(bookId);
+            if (old == null) {
+                return;
+            }
+            for (String term : old.termFrequencies.keySet()) {
+                Map<Long, Float> postingList = postings.get(term);
+                postingList.remove(bookId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= old.length;
+        }
+    }
+
+    private static final class IndexedBook {
+        private final BookSummaryDto summary;
+        private final Map<String, Float> termFrequencies;
+        private final float length;
+
+        private IndexedBook(BookSummaryDto summary, Map<String, Float> termFrequencies, float length) {
+            this.summary = summary;
+            this.termFrequencies = termFrequencies;
+            this.length = length;
+        }
+
+        // book.getUser() 는 @EntityGraph 로 함께 조회된 상태여야 함
+        private static IndexedBook from(Book book) {
+            Map<String, Float> tf = new HashMap<>();
+            float length = addField(tf, book.getTitle(), TITLE_WEIGHT)
+                    + addField(tf, book.getAuthor(), AUTHOR_WEIGHT)
+                    + addField(tf, book.getPublisher(), PUBLISHER_WEIGHT)
+                    + addField(tf, book.getContent(), CONTENT_WEIGHT);
+            BookSummaryDto summary = new BookSummaryDto(book.getId(), book.getTitle(), book.getAuthor(),
+                    book.getCategory(), book.getPrice(), book.getImageUrl(), book.getUser().getName(), book.getCreatedAt());
+            return new IndexedBook(summary, tf, length);
+        }
+
+        private static float addField(Map<String, Float> tf, String text, float weight) {
+            List<String> tokens = BookTokenizer.tokenizeForIndex(text);
+            tokens.forEach(token -> tf.merge(token, weight, Float::sum));
+            return tokens.size() * weight;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.mini4.Book.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색용 토크나이저: 공백/구두점으로 단어를 나눈 뒤 각 단어를 문자 바이그램(2-gram)으로 분해합니다.
+// 형태소 분석 없이도 한국어 부분 일치("자바스크립트" 에서 "스크립트")가 가능하고, 한 글자 단어는 그대로 사용합니다.
+// 색인할 때는 두 글자 이상 단어의 첫 글자(유니그램 접두어)도 토큰으로 추가하므로, 한 글자 검색어("자")는
+// 그 글자로 시작하는 단어("자바")와 일치합니다. 단어 중간의 글자("바")로는 찾지 않습니다.
+final class BookTokenizer {
+
+    private BookTokenizer() {
+    }
+
+    // 검색어 토큰
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 색인 토큰 (검색어 토큰 + 단어 첫 글자)
+    static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean withPrefixes) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addNgrams(normalized, start, i, withPrefixes, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addNgrams(String text, int start, int end, boolean withPrefix, List<String> tokens) {
+        if (end - start == 1 || withPrefix) {
+            tokens.add(text.substring(start, start + 1));
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
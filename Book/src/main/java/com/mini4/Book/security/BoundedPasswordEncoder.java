@@ -0,0 +1,133 @@
+package com.mini4.Book.security;
+
+import com.mini4.Book.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt 해싱(회원가입 encode, 로그인 matches)을 CPU 수 만큼의 전용 스레드에서 실행하는 PasswordEncoder
+// - 로그인이 몰려도 해싱은 전용 스레드 수 만큼만 CPU 를 사용하고, 요청 스레드는 결과를 기다리는 동안 CPU 를 쓰지 않음
+// - 대기열(queue-capacity)이 가득 차면 기다리지 않고 ServiceBusyException (503 + Retry-After)
+// - 저장된 해시의 cost 가 설정(bcrypt-strength)과 다르면 upgradeEncoding = true -> 로그인 성공 시 새 cost 로 다시 해싱
+// 메트릭: password.hashing{operation, outcome}, password.hashing.queue.depth, password.hashing.active, password.hashing.rejected
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long retryAfterSeconds,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.retryAfterSeconds = retryAfterSeconds;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing threads currently hashing")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // cost 가 바뀌면 (높아지거나 낮아지거나) 로그인 성공 시 다시 해싱 (DaoAuthenticationProvider -> UserDetailsPasswordService)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    // @Bean destroy 메서드로 자동 호출
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(String operation, Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                String outcome = "success";
+                try {
+                    return hashing.call();
+                } catch (Exception e) {
+                    outcome = e.getClass().getSimpleName();
+                    throw e;
+                } finally {
+                    sample.stop(Timer.builder("password.hashing")
+                            .description("BCrypt hashing latency (excluding queue wait)")
+                            .tag("operation", operation)
+                            .tag("outcome", outcome)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full, rejecting {} request.", operation);
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+}
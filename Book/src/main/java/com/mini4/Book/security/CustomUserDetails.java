@@ -18,6 +18,15 @@ public class CustomUserDetails implements UserDetails {
         this.user = user;
     }
 
+    // 검증된 JWT 클레임만으로 만드는 경량 principal (DB 조회 없음, 비밀번호 없음)
+    public static CustomUserDetails fromClaims(Long userId, String name, String email) {
+        return new CustomUserDetails(User.builder()
+                .id(userId)
+                .name(name)
+                .email(email)
+                .build());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // 현재는 ROLE_USER 권한만 부여 (추후 ROLE_ADMIN 등 추가 가능)
@@ -3,15 +3,18 @@ package com.mini4.Book.security;
 import com.mini4.Book.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final com.mini4.Book.repository.UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -21,6 +24,18 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("해당하는 유저를 찾을 수 없습니다: " + email));
     }
 
+    // 로그인 성공 시 저장된 해시의 BCrypt cost 가 설정과 다르면 호출됨 (newPassword 는 새 cost 로 다시 해싱된 값)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("해당하는 유저를 찾을 수 없습니다: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        userCache.evict(user.getId());
+        return createUserDetails(user);
+    }
+
     // User 엔티티를 CustomUserDetails 객체로 변환하는 헬퍼 메서드
     private UserDetails createUserDetails(User user) {
         return new CustomUserDetails(user);
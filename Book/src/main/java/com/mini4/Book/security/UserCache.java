@@ -0,0 +1,50 @@
+package com.mini4.Book.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mini4.Book.datasource.ReadWriteRoutingDataSource;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.util.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 전체 User 엔티티가 꼭 필요한 곳(예: 도서 등록 시 연관관계 설정)을 위한 짧은 TTL 의 사용자 캐시
+// 인증 자체는 JWT 클레임만으로 처리하므로, 이 캐시는 요청마다 user_table 을 조회하지 않기 위한 보조 수단입니다.
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> cache;
+    private final SingleFlight<Long, User> loads = new SingleFlight<>(); // 동시 미스 시 DB 조회 한 번 (가상 스레드 pinning 없음)
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${book.user-cache.max-size:10000}") long maxSize,
+                     @Value("${book.user-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 캐시된 User 는 영속성 컨텍스트에 속하지 않은(detached) 객체이므로 읽기 또는 연관관계 참조 용도로만 사용해야 합니다.
+    public Optional<User> findById(Long userId) {
+        User cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // 공유 캐시를 채우는 조회이므로 복제본이 아닌 주 DB 에서 읽음 (가입 직후 복제 지연 방지)
+        return Optional.ofNullable(loads.load(userId,
+                id -> ReadWriteRoutingDataSource.usePrimary(() -> userRepository.findById(id).orElse(null)),
+                user -> cache.put(userId, user)));
+    }
+
+    public void evict(Long userId) {
+        loads.forget(userId);
+        cache.invalidate(userId);
+    }
+}
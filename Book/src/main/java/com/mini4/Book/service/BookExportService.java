@@ -0,0 +1,12 @@
+package com.mini4.Book.service;
+
+import com.mini4.Book.dto.BookExportRequestDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BookExportService {
+
+    // 조건에 맞는 도서를 NDJSON (한 줄에 BookResponseDto 하나) 또는 CSV 로 output 에 바로 씁니다. 반환값: 내보낸 도서 수
+    long exportBooks(BookExportRequestDto exportRequest, OutputStream output) throws IOException;
+}
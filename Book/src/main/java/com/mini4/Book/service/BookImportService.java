@@ -0,0 +1,14 @@
+package com.mini4.Book.service;
+
+import com.mini4.Book.dto.BookImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BookImportService {
+
+    enum Format { NDJSON, CSV }
+
+    // 입력 스트림을 한 행씩 읽어 검증하고, JDBC 배치로 나누어 커밋합니다. (스트림은 호출자가 닫음)
+    BookImportResultDto importBooks(InputStream input, Format format, Long userId) throws IOException;
+}
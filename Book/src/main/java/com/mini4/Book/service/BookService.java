@@ -1,15 +1,29 @@
 package com.mini4.Book.service;
 
+import com.mini4.Book.dto.BookBatchResponseDto;
+import com.mini4.Book.dto.BookFacetsDto;
+import com.mini4.Book.dto.BookListRequestDto;
+import com.mini4.Book.dto.BookListResponseDto;
+import com.mini4.Book.dto.BookPatchRequestDto;
 import com.mini4.Book.dto.BookRequestDto;
 import com.mini4.Book.dto.BookResponseDto;
+import com.mini4.Book.dto.BookSummaryDto;
 
 import java.util.List;
 
 public interface BookService {
     BookResponseDto createBook(BookRequestDto requestDto, Long userId);
     BookResponseDto getBookById(Long bookId);
-    List<BookResponseDto> getAllBooks();
-    List<BookResponseDto> getBooksByUserId(Long userId);
+    BookBatchResponseDto getBooksByIds(List<Long> bookIds); // 상세 캐시 미스만 IN 한 번으로 조회
+    BookListResponseDto<BookResponseDto> getAllBooks(BookListRequestDto listRequest);
+    BookListResponseDto<BookResponseDto> getBooksByUserId(Long userId, BookListRequestDto listRequest);
+    BookListResponseDto<BookSummaryDto> getAllBookSummaries(BookListRequestDto listRequest);
+    BookListResponseDto<BookSummaryDto> getBookSummariesByUserId(Long userId, BookListRequestDto listRequest);
+    BookListResponseDto<BookSummaryDto> searchBooks(String keyword, Integer size);
+    BookFacetsDto getFacets(); // 카테고리별/가격대별 도서 수 (메모리 집계, DB 조회 없음)
     BookResponseDto updateBook(Long bookId, BookRequestDto requestDto, Long userId);
+    BookResponseDto patchBook(Long bookId, BookPatchRequestDto patch, Long expectedVersion, Long userId); // expectedVersion: If-Match (null 이면 확인 안 함)
     void deleteBook(Long bookId, Long userId);
+    List<Long> deleteBooks(Long userId, List<Long> bookIds); // bookIds 가 null 이면 사용자의 모든 도서, 삭제된 ID 반환
+    String getCatalogVersion(); // 목록 ETag 용 카탈로그 버전 (도서 생성/수정/삭제 시 변경, DB 조회 없음)
 }
@@ -1,6 +1,7 @@
 package com.mini4.Book.service;
 
 import com.mini4.Book.dto.LoginRequestDto;
+import com.mini4.Book.dto.UserAvailabilityDto;
 import com.mini4.Book.dto.UserRegisterRequestDto;
 import com.mini4.Book.dto.UserDto;
 
@@ -8,4 +9,5 @@ public interface UserService {
     UserDto registerUser(UserRegisterRequestDto request);
     UserDto loginUser(LoginRequestDto request);
     void logoutUser(Long userId, String accessToken);
+    UserAvailabilityDto checkAvailability(String email, String name);
 }
@@ -0,0 +1,110 @@
+package com.mini4.Book.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.mini4.Book.domain.Book;
+import com.mini4.Book.dto.BookExportRequestDto;
+import com.mini4.Book.dto.BookResponseDto;
+import com.mini4.Book.repository.BookRepository;
+import com.mini4.Book.service.BookExportService;
+import com.mini4.Book.util.CsvWriter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// 도서 전체 내보내기 (NDJSON / CSV)
+// - 목록을 만들지 않고 DB 커서(Stream<Book>)에서 한 건씩 읽어 바로 출력 스트림에 씀
+// - clear-interval 건마다 영속성 컨텍스트를 비워, 도서 수와 관계없이 힙 사용량을 일정하게 유지
+@Slf4j
+@Service
+public class BookExportServiceImpl implements BookExportService {
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private static final List<String> CSV_HEADER = List.of("id", "title", "author", "publisher", "publishedDate", "content",
+            "price", "category", "imageUrl", "authorId", "authorName", "createdAt", "updatedAt", "deletedAt", "version");
+
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final int clearInterval;
+
+    public BookExportServiceImpl(BookRepository bookRepository, EntityManager entityManager, ObjectMapper objectMapper,
+                                 @Value("${book.export.clear-interval:500}") int clearInterval) {
+        this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+        // 응답 스트림은 호출자가 닫음 (gzip 마무리 등)
+        this.writer = objectMapper.writerFor(BookResponseDto.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.clearInterval = clearInterval;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportBooks(BookExportRequestDto exportRequest, OutputStream output) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long count;
+        try (Stream<Book> books = bookRepository.streamForExport(
+                exportRequest.getUpdatedSince(), exportRequest.getOwnerId(), exportRequest.isIncludeDeleted())) {
+            count = exportRequest.isCsv() ? writeCsv(books.iterator(), output) : writeNdjson(books.iterator(), output);
+        }
+        output.flush();
+        log.info("Book export finished ({}): {} books in {} ms",
+                exportRequest.isCsv() ? "csv" : "ndjson", count, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<Book> books, OutputStream output) throws IOException {
+        long count = 0;
+        try (SequenceWriter lines = writer.writeValues(output)) {
+            while (books.hasNext()) {
+                lines.write(new BookResponseDto(books.next()));
+                clearEvery(++count);
+            }
+        }
+        if (count > 0) {
+            output.write(NEW_LINE); // 마지막 줄 끝 (구분자는 값 사이에만 쓰임)
+        }
+        return count;
+    }
+
+    // 열 이름은 CSV 대량 등록이 읽는 이름과 같아 내보낸 파일을 그대로 다시 등록할 수 있음 (등록 시 나머지 열은 무시)
+    private long writeCsv(Iterator<Book> books, OutputStream output) throws IOException {
+        Writer text = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        CsvWriter csv = new CsvWriter(text);
+        csv.writeRecord(CSV_HEADER);
+        long count = 0;
+        while (books.hasNext()) {
+            BookResponseDto book = new BookResponseDto(books.next());
+            csv.writeRecord(Arrays.asList(book.getId(), book.getTitle(), book.getAuthor(), book.getPublisher(),
+                    book.getPublishedDate(), book.getContent(), book.getPrice(), book.getCategory(), book.getImageUrl(),
+                    book.getAuthorId(), book.getAuthorName(), book.getCreatedAt(), book.getUpdatedAt(),
+                    book.getDeletedAt(), book.getVersion()));
+            clearEvery(++count);
+        }
+        text.flush(); // 응답 스트림은 닫지 않음 (gzip 마무리는 호출자가 처리)
+        return count;
+    }
+
+    private void clearEvery(long count) {
+        if (count % clearInterval == 0) {
+            entityManager.clear(); // 이미 출력한 도서/사용자 엔티티 해제
+        }
+    }
+}
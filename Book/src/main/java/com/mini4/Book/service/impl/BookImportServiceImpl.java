@@ -0,0 +1,281 @@
+package com.mini4.Book.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini4.Book.dto.BookImportResultDto;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.event.BookChangedEvent;
+import com.mini4.Book.security.UserCache;
+import com.mini4.Book.service.BookImportService;
+import com.mini4.Book.util.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 도서 대량 등록 (NDJSON / CSV)
+// - 입력을 한 행씩 읽어 BookRequestDto 제약 조건으로 검증하고, chunk-size 행마다 별도 트랜잭션으로 커밋
+// - INSERT 는 JPA 를 거치지 않고 JdbcTemplate 배치로 실행 (IDENTITY 키여도 JDBC 배치는 가능)
+// - 메모리에는 현재 chunk 와 최대 max-errors 개의 오류만 유지
+@Slf4j
+@Service
+public class BookImportServiceImpl implements BookImportService {
+
+    private static final String INSERT_SQL = "insert into book_table "
+            + "(title, author, publisher, published_date, content, price, category, image_url, created_at, updated_at, user_id) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> CSV_COLUMNS =
+            List.of("title", "author", "publisher", "publishedDate", "content", "price", "category", "imageUrl");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public BookImportServiceImpl(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 Validator validator, ObjectMapper objectMapper, UserCache userCache,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${book.import.batch-size:500}") int batchSize,
+                                 @Value("${book.import.chunk-size:5000}") int chunkSize,
+                                 @Value("${book.import.max-errors:100}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.userCache = userCache;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public BookImportResultDto importBooks(InputStream input, Format format, Long userId) throws IOException {
+        userCache.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. User ID: " + userId));
+
+        long startedAt = System.currentTimeMillis();
+        ImportRun run = new ImportRun(userId);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+            run.flush();
+        } finally {
+            // 일부 chunk 만 커밋된 경우에도 캐시/검색 색인에 반영
+            if (run.result.getImportedRows() > 0) {
+                eventPublisher.publishEvent(BookChangedEvent.imported());
+            }
+        }
+        run.result.setElapsedMillis(System.currentTimeMillis() - startedAt);
+        log.info("Book import finished (userId: {}, format: {}): {} imported, {} failed in {} ms",
+                userId, format, run.result.getImportedRows(), run.result.getFailedRows(), run.result.getElapsedMillis());
+        return run.result;
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            BookRequestDto row;
+            try {
+                row = objectMapper.readValue(line, BookRequestDto.class);
+            } catch (IOException e) {
+                run.fail(lineNumber, "JSON 형식이 올바르지 않습니다.");
+                continue;
+            }
+            run.accept(lineNumber, row);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header;
+        try {
+            header = csv.readRecord();
+        } catch (CsvReader.MalformedCsvException e) {
+            throw new IllegalArgumentException("CSV 헤더를 읽을 수 없습니다. " + e.getMessage());
+        }
+        if (header == null) {
+            return;
+        }
+        // 헤더 이름 -> 열 위치 (알 수 없는 열은 무시)
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip();
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1); // UTF-8 BOM
+            }
+            if (CSV_COLUMNS.contains(name)) {
+                columns.put(name, i);
+            }
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV 헤더에 title 열이 없습니다. 사용 가능한 열: " + CSV_COLUMNS);
+        }
+
+        List<String> record;
+        while ((record = readCsvRecord(csv, run)) != null) {
+            long lineNumber = csv.getRecordLineNumber();
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            BookRequestDto row = new BookRequestDto();
+            row.setTitle(column(record, columns, "title"));
+            row.setAuthor(column(record, columns, "author"));
+            row.setPublisher(column(record, columns, "publisher"));
+            row.setPublishedDate(column(record, columns, "publishedDate"));
+            row.setContent(column(record, columns, "content"));
+            row.setCategory(column(record, columns, "category"));
+            row.setImageUrl(column(record, columns, "imageUrl"));
+            String price = column(record, columns, "price");
+            if (price != null) {
+                try {
+                    row.setPrice(Integer.valueOf(price.strip()));
+                } catch (NumberFormatException e) {
+                    run.fail(lineNumber, "가격은 숫자여야 합니다.");
+                    continue;
+                }
+            }
+            run.accept(lineNumber, row);
+        }
+    }
+
+    // 다음 레코드. 닫히지 않은 큰따옴표는 파일 끝까지 한 필드로 읽히므로 그 줄을 실패로 기록하고 읽기를 멈춤 (null)
+    // 이미 읽은 행은 그대로 등록되어 부분 성공 결과로 반환
+    private static List<String> readCsvRecord(CsvReader csv, ImportRun run) throws IOException {
+        try {
+            return csv.readRecord();
+        } catch (CsvReader.MalformedCsvException e) {
+            run.fail(e.getLineNumber(), "닫히지 않은 큰따옴표가 있어 이 줄부터 파일 끝까지 읽을 수 없습니다.");
+            return null;
+        }
+    }
+
+    // 빈 값은 null 로 취급 (JSON 의 누락 필드와 동일하게 검증)
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    // 한 번의 대량 등록 실행 상태 (현재 chunk 와 결과 집계)
+    private final class ImportRun {
+        private final Long userId;
+        private final BookImportResultDto result = new BookImportResultDto();
+        private final List<BookRequestDto> chunk = new ArrayList<>(chunkSize);
+        private final List<Long> chunkLines = new ArrayList<>(chunkSize); // chunk 각 행의 원본 줄 번호
+
+        private ImportRun(Long userId) {
+            this.userId = userId;
+        }
+
+        private void accept(long lineNumber, BookRequestDto row) {
+            Set<ConstraintViolation<BookRequestDto>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                fail(lineNumber, violations.stream()
+                        .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                        .map(ConstraintViolation::getMessage)
+                        .collect(Collectors.joining(" ")));
+                return;
+            }
+            result.setTotalRows(result.getTotalRows() + 1);
+            chunk.add(row);
+            chunkLines.add(lineNumber);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void fail(long lineNumber, String message) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            result.setFailedRows(result.getFailedRows() + 1);
+            if (result.getErrors().size() < maxErrors) {
+                result.getErrors().add(new BookImportResultDto.RowError(lineNumber, message));
+            }
+        }
+
+        // 현재 chunk 를 하나의 트랜잭션으로 배치 INSERT
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(chunk, now));
+                result.setImportedRows(result.getImportedRows() + chunk.size());
+            } catch (DataAccessException e) {
+                // 길이 초과 등 DB 제약 위반: chunk 가 롤백되었으므로 한 행씩 다시 넣어 실패한 행만 보고
+                log.warn("Book import chunk failed, retrying row by row. Error: {}", e.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    List<BookRequestDto> single = List.of(chunk.get(i));
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> insert(single, now));
+                        result.setImportedRows(result.getImportedRows() + 1);
+                    } catch (DataAccessException rowError) {
+                        result.setTotalRows(result.getTotalRows() - 1); // fail() 에서 실패 행으로 다시 집계
+                        fail(chunkLines.get(i), "저장할 수 없는 값이 있습니다. (길이 초과 등)");
+                    }
+                }
+            }
+            chunk.clear();
+            chunkLines.clear();
+        }
+
+        private void insert(List<BookRequestDto> rows, Timestamp now) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, row) -> {
+                ps.setString(1, row.getTitle());
+                ps.setString(2, row.getAuthor());
+                ps.setString(3, row.getPublisher());
+                ps.setString(4, row.getPublishedDate());
+                ps.setString(5, row.getContent());
+                if (row.getPrice() != null) {
+                    ps.setInt(6, row.getPrice());
+                } else {
+                    ps.setNull(6, Types.INTEGER);
+                }
+                ps.setString(7, row.getCategory());
+                ps.setString(8, row.getImageUrl());
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+                ps.setLong(11, userId);
+            });
+        }
+    }
+}
@@ -1,20 +1,53 @@
 package com.mini4.Book.service.impl;
 
+import com.mini4.Book.cache.BookDetailCache;
+import com.mini4.Book.cache.CatalogVersion;
+import com.mini4.Book.datasource.ReadWriteRoutingDataSource;
 import com.mini4.Book.domain.Book;
 import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookBatchResponseDto;
+import com.mini4.Book.dto.BookCursor;
+import com.mini4.Book.dto.BookFacetsDto;
+import com.mini4.Book.dto.BookListRequestDto;
+import com.mini4.Book.dto.BookListResponseDto;
+import com.mini4.Book.dto.BookPatchRequestDto;
 import com.mini4.Book.dto.BookRequestDto;
 import com.mini4.Book.dto.BookResponseDto;
+import com.mini4.Book.dto.BookSummaryDto;
+import com.mini4.Book.event.BookChangedEvent;
+import com.mini4.Book.exception.ServiceBusyException;
 import com.mini4.Book.repository.BookRepository;
-import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.repository.BookSpecifications;
+import com.mini4.Book.search.BookFacetIndex;
+import com.mini4.Book.search.BookSearchIndex;
+import com.mini4.Book.security.UserCache;
 import com.mini4.Book.service.BookService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,13 +55,39 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BookServiceImpl implements BookService {
 
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final BookRepository bookRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final BookDetailCache bookDetailCache;
+    private final CatalogVersion catalogVersion;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookFacetIndex bookFacetIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${book.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${book.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${book.batch.max-ids:100}")
+    private int maxBatchIds;
+
+    @Value("${book.page.total-count-ttl-seconds:30}")
+    private long totalCountTtlSeconds;
+
+    @Value("${book.search.retry-after-seconds:5}")
+    private long searchRetryAfterSeconds; // 기동 직후 검색 색인을 만드는 동안의 503 Retry-After
+
+    // 전체 도서 수 캐시 (withTotal=true 요청마다 COUNT(*) 하지 않도록 TTL 동안 재사용)
+    private volatile CachedCount totalCountCache;
 
     @Override
     @Transactional
     public BookResponseDto createBook(BookRequestDto requestDto, Long userId) {
-        User user = userRepository.findById(userId)
+        // 연관관계 설정용 User 는 짧은 TTL 캐시에서 가져옴 (요청마다 user_table 조회 방지)
+        User user = userCache.findById(userId)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. User ID: " + userId));
 
         log.info("createBook: Received imageUrl: {}", requestDto.getImageUrl());
@@ -46,47 +105,131 @@ public class BookServiceImpl implements BookService {
                 .build();
 
         Book savedBook = bookRepository.save(book);
+        totalCountCache = null;
+        eventPublisher.publishEvent(BookChangedEvent.created(savedBook.getId()));
         log.info("Book created: {} with URL: {}", savedBook.getTitle(), savedBook.getImageUrl());
         return new BookResponseDto(savedBook);
     }
 
     @Override
     public BookResponseDto getBookById(Long bookId) {
-        Book book = bookRepository.findByIdAndDeletedAtIsNull(bookId)
-                .orElseThrow(() -> new NoSuchElementException("해당하는 도서를 찾을 수 없습니다. Book ID: " + bookId));
-        return new BookResponseDto(book);
+        // 상세 캐시는 모든 사용자가 공유하므로 복제 지연된 값을 캐시하지 않도록 캐시 미스 조회는 주 DB 사용
+        BookResponseDto book = bookDetailCache.get(bookId, id -> ReadWriteRoutingDataSource.usePrimary(() ->
+                bookRepository.findByIdAndDeletedAtIsNull(id)
+                        .map(BookResponseDto::new)
+                        .orElse(null)));
+        if (book == null) {
+            throw new NoSuchElementException("해당하는 도서를 찾을 수 없습니다. Book ID: " + bookId);
+        }
+        return book;
     }
 
     @Override
-    public List<BookResponseDto> getAllBooks() {
-        List<Book> books = bookRepository.findAllByDeletedAtIsNull();
-        return books.stream()
-                .map(BookResponseDto::new)
-                .collect(Collectors.toList());
+    public BookBatchResponseDto getBooksByIds(List<Long> bookIds) {
+        // 중복 ID 는 한 번만 조회하고, 응답은 처음 등장한 순서대로
+        Set<Long> ids = new LinkedHashSet<>();
+        if (bookIds != null) {
+            bookIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("조회할 도서 ID 를 입력해주세요.");
+        }
+        if (ids.size() > maxBatchIds) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 도서는 최대 " + maxBatchIds + "권입니다.");
+        }
+
+        // 캐시 미스만 모아 IN 한 번으로 조회 (getBookById 와 같은 이유로 주 DB 사용)
+        Map<Long, BookResponseDto> found = bookDetailCache.getAll(ids, misses -> ReadWriteRoutingDataSource.usePrimary(() ->
+                bookRepository.findAllByIdInAndDeletedAtIsNull(misses).stream()
+                        .map(BookResponseDto::new)
+                        .collect(Collectors.toMap(BookResponseDto::getId, Function.identity()))));
+
+        List<BookResponseDto> books = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            BookResponseDto book = found.get(id);
+            if (book != null) {
+                books.add(book);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BookBatchResponseDto(books, missingIds);
     }
 
     @Override
-    public List<BookResponseDto> getBooksByUserId(Long userId) {
-        List<Book> books = bookRepository.findByUser_IdAndDeletedAtIsNull(userId);
-        return books.stream()
-                .map(BookResponseDto::new)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public BookListResponseDto<BookResponseDto> getAllBooks(BookListRequestDto listRequest) {
+        return keysetPage(listRequest, listRequest.getOwnerId(),
+                bookRepository::findFirstPage,
+                bookRepository::findPageAfter,
+                bookRepository::findFilteredPage,
+                this::getTotalCount,
+                BookCursor::of, BookResponseDto::new);
     }
 
     @Override
-    @Transactional
-    public BookResponseDto updateBook(Long bookId, BookRequestDto requestDto, Long userId) {
-        Book book = bookRepository.findByIdAndDeletedAtIsNull(bookId)
-                .orElseThrow(() -> new NoSuchElementException("해당하는 도서를 찾을 수 없습니다. Book ID: " + bookId));
+    @Transactional(readOnly = true)
+    public BookListResponseDto<BookResponseDto> getBooksByUserId(Long userId, BookListRequestDto listRequest) {
+        return keysetPage(listRequest, userId,
+                limit -> bookRepository.findFirstPageByUserId(userId, limit),
+                (createdAt, id, limit) -> bookRepository.findPageAfterByUserId(userId, createdAt, id, limit),
+                bookRepository::findFilteredPage,
+                () -> getUserTotalCount(userId),
+                BookCursor::of, BookResponseDto::new);
+    }
 
-        if (!book.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("도서를 수정할 권한이 없습니다.");
+    @Override
+    @Transactional(readOnly = true)
+    public BookListResponseDto<BookSummaryDto> getAllBookSummaries(BookListRequestDto listRequest) {
+        return keysetPage(listRequest, listRequest.getOwnerId(),
+                bookRepository::findFirstSummaryPage,
+                bookRepository::findSummaryPageAfter,
+                bookRepository::findFilteredSummaryPage,
+                this::getTotalCount,
+                BookCursor::of, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookListResponseDto<BookSummaryDto> getBookSummariesByUserId(Long userId, BookListRequestDto listRequest) {
+        return keysetPage(listRequest, userId,
+                limit -> bookRepository.findFirstSummaryPageByUserId(userId, limit),
+                (createdAt, id, limit) -> bookRepository.findSummaryPageAfterByUserId(userId, createdAt, id, limit),
+                bookRepository::findFilteredSummaryPage,
+                () -> getUserTotalCount(userId),
+                BookCursor::of, Function.identity());
+    }
+
+    @Override
+    public BookListResponseDto<BookSummaryDto> searchBooks(String keyword, Integer size) {
+        if (!StringUtils.hasText(keyword)) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (!bookSearchIndex.isReady()) {
+            // 기동 직후 색인을 만드는 중에는 일부 도서만 찾을 수 있으므로 불완전한 결과 대신 재시도 요청
+            throw new ServiceBusyException("검색 색인을 준비하고 있습니다. 잠시 후 다시 시도해주세요.", searchRetryAfterSeconds);
         }
+        int limit = resolvePageSize(size);
+        BookSearchIndex.SearchResult result = bookSearchIndex.search(keyword, limit);
+        return new BookListResponseDto<>(result.getBooks(), null, result.getTotalHits());
+    }
 
-        log.info("updateBook: Book ID {}, Current imageUrl: {}, Received imageUrl: {}",
-                bookId, book.getImageUrl(), requestDto.getImageUrl());
+    @Override
+    public BookFacetsDto getFacets() {
+        return bookFacetIndex.getFacets();
+    }
 
-        book.update(
+    @Override
+    @Transactional
+    public BookResponseDto updateBook(Long bookId, BookRequestDto requestDto, Long userId) {
+        log.info("updateBook: Book ID {}, Received imageUrl: {}", bookId, requestDto.getImageUrl());
+
+        // 소유자/삭제 여부 확인과 수정을 UPDATE 한 문장으로 처리 (확인 후 수정 사이에 삭제되는 경우도 없음)
+        // 같은 문장이 등록 시각/새 버전을 돌려주므로 응답을 위해 다시 조회하지 않음 (0 건일 때만 404/403 구분 조회)
+        // updatedAt 은 응답에도 그대로 쓰므로 DB 컬럼 정밀도(마이크로초)에 맞춤
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        BookRepository.WriteStamp stamp = bookRepository.updateIfOwner(bookId, userId,
                 requestDto.getTitle(),
                 requestDto.getAuthor(),
                 requestDto.getPublisher(),
@@ -94,28 +237,253 @@ public class BookServiceImpl implements BookService {
                 requestDto.getContent(),
                 requestDto.getPrice(),
                 requestDto.getCategory(),
-                requestDto.getImageUrl()
-        );
+                requestDto.getImageUrl(),
+                updatedAt)
+                .orElseThrow(() -> notFoundOrForbidden(bookId, "도서를 수정할 권한이 없습니다."));
 
-        // 변경된 내용을 DB에 저장
-        bookRepository.save(book);
+        String ownerName = userCache.findById(userId).map(User::getName).orElse("Unknown");
+        // 커밋 이후 상세 캐시 무효화
+        eventPublisher.publishEvent(BookChangedEvent.updated(bookId));
 
-        log.info("Book updated: {} with URL: {}", book.getTitle(), book.getImageUrl()); // URL 로깅 추가
-        return new BookResponseDto(book);
+        log.info("Book updated: {} with URL: {}", requestDto.getTitle(), requestDto.getImageUrl()); // URL 로깅 추가
+        return new BookResponseDto(bookId, requestDto, userId, ownerName, stamp.getCreatedAt(), updatedAt, stamp.getVersion());
     }
 
     @Override
     @Transactional
-    public void deleteBook(Long bookId, Long userId) {
+    public BookResponseDto patchBook(Long bookId, BookPatchRequestDto patch, Long expectedVersion, Long userId) {
+        if (!patch.getUnknownFields().isEmpty()) {
+            throw new IllegalArgumentException("수정할 수 없는 필드입니다: " + String.join(", ", patch.getUnknownFields()));
+        }
+        validatePatch(patch);
+
         Book book = bookRepository.findByIdAndDeletedAtIsNull(bookId)
                 .orElseThrow(() -> new NoSuchElementException("해당하는 도서를 찾을 수 없습니다. Book ID: " + bookId));
-
         if (!book.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("도서를 삭제할 권한이 없습니다.");
+            throw new AccessDeniedException("도서를 수정할 권한이 없습니다.");
+        }
+        // 클라이언트가 본 버전 이후에 다른 요청이 이미 수정한 경우
+        if (expectedVersion != null && !expectedVersion.equals(book.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Book.class, bookId);
+        }
+
+        // 본문에 없는 필드는 현재 값을 그대로 넘기므로 변경 감지에서 제외되고, @DynamicUpdate 로 바뀐 컬럼만 UPDATE
+        Long versionBefore = book.getVersion();
+        book.update(
+                patch.has("title") ? patch.getTitle() : book.getTitle(),
+                patch.has("author") ? patch.getAuthor() : book.getAuthor(),
+                patch.has("publisher") ? patch.getPublisher() : book.getPublisher(),
+                patch.has("publishedDate") ? patch.getPublishedDate() : book.getPublishedDate(),
+                patch.has("content") ? patch.getContent() : book.getContent(),
+                patch.has("price") ? patch.getPrice() : book.getPrice(),
+                patch.has("category") ? patch.getCategory() : book.getCategory(),
+                patch.has("imageUrl") ? patch.getImageUrl() : book.getImageUrl()
+        );
+        // 응답에 새 버전/수정 시각을 담고, 동시 수정 충돌(WHERE version = ? 0 건)도 여기서 드러나도록 즉시 flush
+        bookRepository.flush();
+
+        if (!book.getVersion().equals(versionBefore)) {
+            eventPublisher.publishEvent(BookChangedEvent.updated(bookId));
+            log.info("Book patched: {} fields {}", bookId, patch.getPresentFields());
         }
+        return new BookResponseDto(book);
+    }
 
-        book.markAsDeleted();
-        bookRepository.save(book);
+    @Override
+    @Transactional
+    public void deleteBook(Long bookId, Long userId) {
+        int deleted = bookRepository.softDeleteIfOwner(bookId, userId, LocalDateTime.now());
+        if (deleted == 0) {
+            throw notFoundOrForbidden(bookId, "도서를 삭제할 권한이 없습니다.");
+        }
+        totalCountCache = null;
+        eventPublisher.publishEvent(BookChangedEvent.deleted(bookId));
         log.info("Book soft deleted: {}", bookId);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public List<Long> deleteBooks(Long userId, List<Long> bookIds) {
+        // 대상 ID 를 먼저 잠그며 조회하고 그 ID 로만 UPDATE (삭제된 ID 를 정확히 알아야 도서별 캐시 무효화 이벤트를 발행)
+        List<Long> deletedIds;
+        if (bookIds == null) {
+            deletedIds = bookRepository.findIdsForDeleteByUserId(userId);
+        } else {
+            Set<Long> ids = new LinkedHashSet<>();
+            bookIds.stream().filter(Objects::nonNull).forEach(ids::add);
+            if (ids.isEmpty()) {
+                throw new IllegalArgumentException("삭제할 도서 ID 를 입력해주세요.");
+            }
+            if (ids.size() > maxBatchIds) {
+                throw new IllegalArgumentException("한 번에 삭제할 수 있는 도서는 최대 " + maxBatchIds + "권입니다.");
+            }
+            deletedIds = bookRepository.findIdsForDeleteByUserIdAndIdIn(userId, ids);
+        }
+        if (deletedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 전체 삭제는 ID 가 많을 수 있으므로 DB 의 바인딩 파라미터 수 제한 안에서 나누어 UPDATE
+        LocalDateTime deletedAt = LocalDateTime.now();
+        for (int from = 0; from < deletedIds.size(); from += DELETE_CHUNK_SIZE) {
+            bookRepository.softDeleteAllByIdIn(
+                    deletedIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, deletedIds.size())), deletedAt);
+        }
+        totalCountCache = null;
+        deletedIds.forEach(id -> eventPublisher.publishEvent(BookChangedEvent.deleted(id)));
+        log.info("Books soft deleted for user {}: {}", userId, deletedIds.size());
+        return deletedIds;
+    }
+
+    @Override
+    public String getCatalogVersion() {
+        return catalogVersion.current();
+    }
+
+    // 대량 등록이나 다른 노드의 생성/삭제로 전체 도서 수가 바뀐 경우 개수 캐시 초기화
+    // (CatalogVersion 이 목록 ETag 버전을 올리기 전에 실행)
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.isRemote() || event.getType() == BookChangedEvent.Type.IMPORTED) {
+            totalCountCache = null;
+        }
+    }
+
+    // BookRequestDto 의 @Valid 검증과 같은 규칙을 본문에 포함된 필드에만 적용
+    private void validatePatch(BookPatchRequestDto patch) {
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("수정할 필드를 입력해주세요.");
+        }
+        if (patch.has("title") && !StringUtils.hasText(patch.getTitle())) {
+            throw new IllegalArgumentException("제목은 필수 입력 값입니다.");
+        }
+        if (patch.has("publisher") && !StringUtils.hasText(patch.getPublisher())) {
+            throw new IllegalArgumentException("출판사는 필수 입력 값입니다.");
+        }
+        if (patch.has("publishedDate")
+                && (patch.getPublishedDate() == null || !patch.getPublishedDate().matches("\\d{4}-\\d{2}-\\d{2}"))) {
+            throw new IllegalArgumentException("출판일은 YYYY-MM-DD 형식이어야 합니다.");
+        }
+        if (patch.has("price") && patch.getPrice() != null && patch.getPrice() < 0) {
+            throw new IllegalArgumentException("가격은 0원 이상이어야 합니다.");
+        }
+    }
+
+    // 조건부 UPDATE 가 0 건일 때: 도서가 없거나 삭제되었으면 404, 다른 사용자의 도서면 403
+    private RuntimeException notFoundOrForbidden(Long bookId, String forbiddenMessage) {
+        if (bookRepository.findOwnerIdById(bookId).isEmpty()) {
+            return new NoSuchElementException("해당하는 도서를 찾을 수 없습니다. Book ID: " + bookId);
+        }
+        return new AccessDeniedException(forbiddenMessage);
+    }
+
+    private int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    // 목록 필터 (?category=&minPrice=&maxPrice=&publisher=&ownerId=), 항상 deleted_at IS NULL 포함
+    private Specification<Book> filterOf(BookListRequestDto listRequest, Long ownerId) {
+        Integer minPrice = listRequest.getMinPrice();
+        Integer maxPrice = listRequest.getMaxPrice();
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice 는 maxPrice 보다 클 수 없습니다.");
+        }
+        Specification<Book> spec = BookSpecifications.notDeleted();
+        if (StringUtils.hasText(listRequest.getCategory())) {
+            spec = spec.and(BookSpecifications.categoryEquals(listRequest.getCategory()));
+        }
+        if (StringUtils.hasText(listRequest.getPublisher())) {
+            spec = spec.and(BookSpecifications.publisherEquals(listRequest.getPublisher()));
+        }
+        if (minPrice != null) {
+            spec = spec.and(BookSpecifications.priceAtLeast(minPrice));
+        }
+        if (maxPrice != null) {
+            spec = spec.and(BookSpecifications.priceAtMost(maxPrice));
+        }
+        if (ownerId != null) {
+            spec = spec.and(BookSpecifications.ownedBy(ownerId));
+        }
+        return spec;
+    }
+
+    private Specification<Book> pageOf(Specification<Book> filter, BookCursor cursor) {
+        return cursor == null ? filter : filter.and(BookSpecifications.after(cursor.getCreatedAt(), cursor.getId()));
+    }
+
+    // 목록 API 공통 키셋 페이징 (createdAt desc, id desc)
+    // 필터가 있으면 Specification 조회, 없으면 첫 페이지/커서 이후 전용 쿼리를 사용하고, size + 1 건으로 다음 페이지 여부를 판단
+    private <E, T> BookListResponseDto<T> keysetPage(BookListRequestDto listRequest, Long ownerId,
+                                                     Function<Limit, List<E>> firstPage,
+                                                     PageAfterQuery<E> pageAfter,
+                                                     BiFunction<Specification<Book>, Integer, List<E>> filteredPage,
+                                                     LongSupplier totalCount,
+                                                     Function<E, BookCursor> cursorOf, Function<E, T> mapper) {
+        int size = resolvePageSize(listRequest.getSize());
+        BookCursor cursor = BookCursor.decode(listRequest.getCursor());
+
+        if (listRequest.hasFilters()) {
+            Specification<Book> filter = filterOf(listRequest, ownerId);
+            List<E> rows = filteredPage.apply(pageOf(filter, cursor), size + 1);
+            Long total = listRequest.isWithTotal() ? bookRepository.countFiltered(filter) : null;
+            return toPage(rows, size, cursorOf, mapper, total);
+        }
+        Limit limit = Limit.of(size + 1); // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<E> rows = cursor == null
+                ? firstPage.apply(limit)
+                : pageAfter.find(cursor.getCreatedAt(), cursor.getId(), limit);
+        Long total = listRequest.isWithTotal() ? totalCount.getAsLong() : null;
+        return toPage(rows, size, cursorOf, mapper, total);
+    }
+
+    // 커서 (createdAt, id) 이후 페이지 조회 쿼리
+    @FunctionalInterface
+    private interface PageAfterQuery<E> {
+        List<E> find(LocalDateTime createdAt, Long id, Limit limit);
+    }
+
+    // size + 1 건으로 조회한 결과를 잘라 다음 커서를 계산
+    private <E, T> BookListResponseDto<T> toPage(List<E> rows, int size, Function<E, BookCursor> cursorOf,
+                                                 Function<E, T> mapper, Long totalCount) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        List<T> content = page.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new BookListResponseDto<>(content, nextCursor, totalCount);
+    }
+
+    private long getTotalCount() {
+        CachedCount cached = totalCountCache;
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt > now) {
+            return cached.value;
+        }
+        long count = bookRepository.countByDeletedAtIsNull();
+        totalCountCache = new CachedCount(count, now + totalCountTtlSeconds * 1000);
+        return count;
+    }
+
+    // 사용자별 개수는 해당 사용자의 도서만 세므로 캐시하지 않음
+    private long getUserTotalCount(Long userId) {
+        return bookRepository.countByUser_IdAndDeletedAtIsNull(userId);
+    }
+
+    private static final class CachedCount {
+        private final long value;
+        private final long expiresAt;
+
+        private CachedCount(long value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
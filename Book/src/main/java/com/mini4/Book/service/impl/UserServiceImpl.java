@@ -1,15 +1,23 @@
 package com.mini4.Book.service.impl;
 
+import com.mini4.Book.cache.UserAvailabilityIndex;
 import com.mini4.Book.domain.User;
 import com.mini4.Book.dto.LoginRequestDto;
+import com.mini4.Book.dto.UserAvailabilityDto;
 import com.mini4.Book.dto.UserRegisterRequestDto;
 import com.mini4.Book.dto.UserDto;
 import com.mini4.Book.exception.UserExistsException;
 import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.jwt.TokenBlacklist;
+import com.mini4.Book.metrics.RedisMetrics;
 import com.mini4.Book.repository.UserRepository;
 import com.mini4.Book.security.CustomUserDetails;
 import com.mini4.Book.service.UserService;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -20,39 +28,46 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 public class UserServiceImpl implements UserService {
 
+    // user_table 유니크 제약 이름 (V5 마이그레이션, User 엔티티)
+    private static final String EMAIL_CONSTRAINT = "uk_user_email";
+    private static final String NAME_CONSTRAINT = "uk_user_name";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화 주입
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
+    private final RedisMetrics redisMetrics; // Redis 명령 지연 시간 기록
+    private final UserAvailabilityIndex userAvailabilityIndex;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
                            JwtTokenProvider jwtTokenProvider, AuthenticationManagerBuilder authenticationManagerBuilder,
-                           RedisTemplate<String, Object> redisTemplate) {
+                           RedisTemplate<String, Object> redisTemplate, TokenBlacklist tokenBlacklist,
+                           RedisMetrics redisMetrics, UserAvailabilityIndex userAvailabilityIndex) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
         this.redisTemplate = redisTemplate;
+        this.tokenBlacklist = tokenBlacklist;
+        this.redisMetrics = redisMetrics;
+        this.userAvailabilityIndex = userAvailabilityIndex;
     }
 
+    // 트랜잭션을 열지 않음: 해싱 대기열/BCrypt 를 기다리는 동안 DB 커넥션을 잡고 있지 않도록
+    // 해싱이 끝난 뒤 saveAndFlush 가 자체 트랜잭션으로 INSERT 만 실행
     @Override
-    @Transactional
     public UserDto registerUser(UserRegisterRequestDto request) {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new UserExistsException("이미 존재하는 이메일입니다.");
-        }
-        // 이름 중복 체크
-        if (userRepository.existsByName(request.getName())) {
-            throw new UserExistsException("이미 존재하는 이름입니다.");
-        }
+        // 이메일/이름 중복은 별도 조회 없이 user_table 의 유니크 제약으로 판단 (INSERT 한 번, 동시 가입에도 안전)
 
         // 비밀번호 암호화
         String encodedPassword = passwordEncoder.encode(request.getPassword());
@@ -63,7 +78,13 @@ public class UserServiceImpl implements UserService {
                 .email(request.getEmail())
                 .build();
 
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new UserExistsException(duplicateMessage(e));
+        }
+        userAvailabilityIndex.register(savedUser.getEmail(), savedUser.getName());
 
         return UserDto.builder()
                 .id(savedUser.getId())
@@ -72,8 +93,25 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    // 위반한 유니크 제약 이름으로 어느 값이 중복인지 판단
+    // (Hibernate 가 추출한 제약 이름, 없으면 DB 메시지. H2 는 "UK_USER_EMAIL_INDEX_4" 처럼 인덱스 이름으로 알려줌)
+    private static String duplicateMessage(DataIntegrityViolationException e) {
+        String violated = e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : String.valueOf(e.getMostSpecificCause().getMessage());
+        violated = violated.toLowerCase(Locale.ROOT);
+        if (violated.contains(EMAIL_CONSTRAINT)) {
+            return "이미 존재하는 이메일입니다.";
+        }
+        if (violated.contains(NAME_CONSTRAINT)) {
+            return "이미 존재하는 이름입니다.";
+        }
+        return "이미 존재하는 이메일 또는 이름입니다.";
+    }
+
+    // 트랜잭션을 열지 않음: 사용자 조회(findByEmail)와 재해싱 저장(updatePassword)만 각자의 짧은 트랜잭션으로 실행하고,
+    // 비밀번호 확인(matches)은 커넥션 없이 기다림
     @Override
-    @Transactional
     public UserDto loginUser(LoginRequestDto request) {
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword());
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
@@ -84,7 +122,8 @@ public class UserServiceImpl implements UserService {
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
         Long userId = userDetails.getUserId();
         String refreshTokenKey = "RT:" + userId;
-        redisTemplate.opsForValue().set(refreshTokenKey, refreshToken, 7 * 24 * 60 * 60 * 1000L, TimeUnit.MILLISECONDS);
+        redisMetrics.record("set_refresh_token", () ->
+                redisTemplate.opsForValue().set(refreshTokenKey, refreshToken, 7 * 24 * 60 * 60 * 1000L, TimeUnit.MILLISECONDS));
 
         return UserDto.builder()
                 .id(userId)
@@ -100,26 +139,43 @@ public class UserServiceImpl implements UserService {
     public void logoutUser(Long userId, String accessToken) { // accessToken 파라미터 추가
         // 1. Redis에서 Refresh Token 삭제
         String refreshTokenKey = "RT:" + userId;
-        if (redisTemplate.hasKey(refreshTokenKey)) {
-            redisTemplate.delete(refreshTokenKey);
+        if (redisMetrics.record("has_refresh_token", () -> redisTemplate.hasKey(refreshTokenKey))) {
+            redisMetrics.record("delete_refresh_token", () -> redisTemplate.delete(refreshTokenKey));
         } else {
-            System.out.println("Warning: Refresh Token not found for userId: " + userId + ". Possibly already logged out.");
+            log.warn("Refresh Token not found for userId: {}. Possibly already logged out.", userId);
         }
 
         // 2. Access Token 블랙리스트 처리
         // Access Token이 유효한 경우에만 블랙리스트에 추가
-        if (StringUtils.hasText(accessToken) && jwtTokenProvider.validateToken(accessToken)) {
-            Long expiration = jwtTokenProvider.getExpiration(accessToken); // AccessToken의 남은 만료 시간 (ms)
+        Claims claims = StringUtils.hasText(accessToken) ? jwtTokenProvider.verify(accessToken) : null; // 한 번만 검증
+        if (claims != null) {
+            Long expiration = jwtTokenProvider.getExpiration(claims); // AccessToken의 남은 만료 시간 (ms)
             if (expiration > 0) { // 만료되지 않은 토큰만 블랙리스트에 추가
-                redisTemplate.opsForValue().set(accessToken, "logout", expiration, TimeUnit.MILLISECONDS);
-                System.out.println("Access Token (ID: " + jwtTokenProvider.parseClaims(accessToken).getSubject() + ") blacklisted for " + expiration + "ms.");
+                // 전체 토큰 대신 짧은 토큰 ID(jti)를 키로 저장 (BL:{jti})
+                String tokenId = jwtTokenProvider.getTokenId(claims, accessToken);
+                redisMetrics.record("revoke_access_token", () -> tokenBlacklist.revoke(tokenId, expiration));
+                log.info("Access Token (ID: {}) blacklisted for {}ms.", claims.getSubject(), expiration);
             }
         } else {
-            System.out.println("Warning: No valid Access Token provided for logout or token already expired/invalid.");
+            log.warn("No valid Access Token provided for logout or token already expired/invalid.");
         }
 
         // 3. SecurityContext 클리어
         SecurityContextHolder.clearContext();
     }
-}
 
+    // 회원가입 화면의 입력마다 호출: Bloom 필터가 음성이면 DB 조회 없이 사용 가능
+    // 트랜잭션을 열지 않음 (음성일 때 커넥션을 빌리지 않도록, "있을 수도 있음" 일 때만 exists 조회가 자체 트랜잭션으로 실행)
+    @Override
+    public UserAvailabilityDto checkAvailability(String email, String name) {
+        if (!StringUtils.hasText(email) && !StringUtils.hasText(name)) {
+            throw new IllegalArgumentException("email 또는 name 중 하나는 입력해야 합니다.");
+        }
+        return UserAvailabilityDto.builder()
+                .emailAvailable(!StringUtils.hasText(email) ? null
+                        : !(userAvailabilityIndex.mightBeTakenEmail(email) && userRepository.existsByEmail(email)))
+                .nameAvailable(!StringUtils.hasText(name) ? null
+                        : !(userAvailabilityIndex.mightBeTakenName(name) && userRepository.existsByName(name)))
+                .build();
+    }
+}
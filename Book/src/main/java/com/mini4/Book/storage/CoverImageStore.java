@@ -0,0 +1,160 @@
+package com.mini4.Book.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 도서 표지 이미지 저장소 (로컬 디스크, 내용 주소 기반)
+// - 파일 이름은 내용의 SHA-256 이므로 같은 이미지는 한 번만 저장되고, 한 번 저장된 파일은 바뀌지 않음
+// - 업로드는 임시 파일로 스트리밍하면서 해시를 계산한 뒤 원자적으로 이동 (이미지 전체를 메모리에 올리지 않음)
+// - 형식은 확장자나 Content-Type 이 아니라 파일 앞부분(매직 바이트)으로 판별
+// 디렉터리 구조: {dir}/originals/ab/{sha256}.{ext}, {dir}/thumbnails/ab/{sha256}.jpg, {dir}/tmp
+@Slf4j
+@Component
+public class CoverImageStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    public static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private final Path originals;
+    private final Path thumbnails;
+    private final Path tmp;
+
+    public CoverImageStore(@Value("${book.covers.dir:./data/covers}") String dir) throws IOException {
+        Path root = Path.of(dir).toAbsolutePath().normalize();
+        this.originals = root.resolve("originals");
+        this.thumbnails = root.resolve("thumbnails");
+        this.tmp = root.resolve("tmp");
+        Files.createDirectories(originals);
+        Files.createDirectories(thumbnails);
+        Files.createDirectories(tmp);
+        log.info("Cover image store at {}", root);
+    }
+
+    // 업로드 스트림을 저장하고 해시/형식을 반환. 지원하지 않는 형식이거나 비어 있으면 IllegalArgumentException
+    public StoredCover store(InputStream source) throws IOException {
+        Path upload = Files.createTempFile(tmp, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(source, digest);
+                 OutputStream out = Files.newOutputStream(upload)) {
+                size = in.transferTo(out);
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+            }
+            String extension = detectExtension(upload);
+            if (extension == null) {
+                throw new IllegalArgumentException("JPEG, PNG, GIF, WebP 이미지만 업로드할 수 있습니다.");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = original(hash, extension);
+            if (Files.exists(target)) {
+                return new StoredCover(hash, extension, size, true);
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                return new StoredCover(hash, extension, size, true); // 같은 이미지가 동시에 업로드된 경우
+            }
+            return new StoredCover(hash, extension, size, false);
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    // 요청 경로의 해시/확장자가 올바른 경우에만 경로를 반환 (경로 조작 방지)
+    public Path original(String hash, String extension) {
+        requireValid(hash, extension);
+        return originals.resolve(hash.substring(0, 2)).resolve(hash + "." + extension);
+    }
+
+    public Path thumbnail(String hash) {
+        requireValid(hash, "jpg");
+        return thumbnails.resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+    }
+
+    // 썸네일은 tmp 에 쓴 뒤 이 메서드로 옮겨, 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+    Path newTempFile() throws IOException {
+        return Files.createTempFile(tmp, "thumbnail-", ".tmp");
+    }
+
+    public static boolean isValid(String hash, String extension) {
+        return hash != null && HASH.matcher(hash).matches() && CONTENT_TYPES.containsKey(extension);
+    }
+
+    private static void requireValid(String hash, String extension) {
+        if (!isValid(hash, extension)) {
+            throw new IllegalArgumentException("잘못된 표지 이미지 ID 입니다.");
+        }
+    }
+
+    private static String detectExtension(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        try (FileChannel channel = FileChannel.open(file)) {
+            while (header.hasRemaining() && channel.read(header) > 0) {
+                // 12 바이트를 채울 때까지 읽음
+            }
+        }
+        byte[] b = header.array();
+        int length = header.position();
+        if (length >= 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (length >= 8 && (b[0] & 0xFF) == 0x89 && b[1] == 'P' && b[2] == 'N' && b[3] == 'G'
+                && b[4] == 0x0D && b[5] == 0x0A && b[6] == 0x1A && b[7] == 0x0A) {
+            return "png";
+        }
+        if (length >= 6 && b[0] == 'G' && b[1] == 'I' && b[2] == 'F' && b[3] == '8' && (b[4] == '7' || b[4] == '9') && b[5] == 'a') {
+            return "gif";
+        }
+        if (length >= 12 && b[0] == 'R' && b[1] == 'I' && b[2] == 'F' && b[3] == 'F'
+                && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+            return "webp";
+        }
+        return null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StoredCover {
+        private final String hash;
+        private final String extension;
+        private final long size;
+        private final boolean duplicate; // 이미 저장되어 있던 이미지 (새로 쓰지 않음)
+    }
+}
@@ -0,0 +1,159 @@
+package com.mini4.Book.storage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 표지 썸네일 생성 (업로드 요청과 분리된 전용 스레드에서 비동기로 실행)
+// - 업로드 직후 요청되며, 썸네일이 아직 없는 상태로 조회되면 다시 요청됨 (대기열이 가득 차 버려진 경우 등)
+// - 큰 이미지는 디코딩 단계에서 서브샘플링해 원본 해상도 전체를 메모리에 올리지 않음
+// - ImageIO 가 읽지 못하는 형식(WebP 등)은 썸네일 없이 원본을 제공
+@Slf4j
+@Component
+public class CoverThumbnailGenerator {
+
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L; // 압축 폭탄 방지 (10000 x 10000)
+    private static final Set<String> SUPPORTED = Set.of("jpg", "png", "gif"); // JDK ImageIO 기본 리더
+
+    private final CoverImageStore coverImageStore;
+    private final int thumbnailWidth;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public CoverThumbnailGenerator(CoverImageStore coverImageStore,
+                                   @Value("${book.covers.thumbnail-width:200}") int thumbnailWidth,
+                                   @Value("${book.covers.thumbnail-threads:1}") int threads,
+                                   @Value("${book.covers.thumbnail-queue-capacity:100}") int queueCapacity) {
+        this.coverImageStore = coverImageStore;
+        this.thumbnailWidth = thumbnailWidth;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cover-thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static boolean supports(String extension) {
+        return SUPPORTED.contains(extension);
+    }
+
+    // 썸네일 생성을 예약 (이미 생성 중이면 무시, 대기열이 가득 차면 버리고 다음 조회 때 다시 요청)
+    public void request(String hash, String extension) {
+        if (!supports(extension) || !inFlight.add(hash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(hash, extension));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(hash);
+            log.warn("Thumbnail queue is full, skipping cover {}", hash);
+        }
+    }
+
+    private void generate(String hash, String extension) {
+        try {
+            Path target = coverImageStore.thumbnail(hash);
+            if (Files.exists(target)) {
+                return;
+            }
+            BufferedImage source = read(coverImageStore.original(hash, extension));
+            if (source == null) {
+                log.debug("No thumbnail for cover {}.{} (unreadable or too large)", hash, extension);
+                return;
+            }
+            write(resize(source), target);
+            log.debug("Thumbnail generated for cover {}", hash);
+        } catch (Exception e) {
+            log.warn("Thumbnail generation failed (cover: {}). Error: {}", hash, e.getMessage());
+        } finally {
+            inFlight.remove(hash);
+        }
+    }
+
+    // 썸네일 폭의 2배 이상인 만큼 건너뛰며 디코딩 (축소 품질은 유지하면서 메모리 사용량을 줄임)
+    private BufferedImage read(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / (thumbnailWidth * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 폭을 thumbnailWidth 로 맞추고 비율 유지 (더 작은 이미지는 확대하지 않음), 투명 영역은 흰색 배경
+    private BufferedImage resize(BufferedImage source) {
+        int width = Math.min(thumbnailWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    private void write(BufferedImage thumbnail, Path target) throws IOException {
+        Path temp = coverImageStore.newTempFile();
+        try {
+            if (!ImageIO.write(thumbnail, "jpg", temp.toFile())) {
+                throw new IOException("No JPEG writer available");
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.mini4.Book.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 락 없이 여러 스레드에서 동시에 add / mightContain 할 수 있는 문자열 Bloom 필터
+// - mightContain 이 false 이면 절대 추가된 적 없는 값, true 이면 추가되었을 수 있는 값 (오탐 가능)
+// - 삭제는 지원하지 않으므로 만료된 값은 새 필터를 만들어 교체하는 방식으로 정리합니다.
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    // expectedInsertions 개를 넣었을 때 오탐률이 falsePositiveRate 가 되도록 크기/해시 개수 결정
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    public void add(String value) {
+        long hash1 = hash(value, 0);
+        long hash2 = hash(value, hash1) | 1; // 홀수로 만들어 모든 해시가 같은 위치가 되지 않도록
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0);
+        long hash2 = hash(value, hash1) | 1; // 홀수로 만들어 모든 해시가 같은 위치가 되지 않도록
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64비트 FNV-1a 해시 + 최종 비트 섞기 (seed 로 두 번째 독립 해시 생성)
+    private static long hash(String value, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb1a1e1b6b7d5L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
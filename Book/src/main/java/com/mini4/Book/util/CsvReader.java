@@ -0,0 +1,103 @@
+package com.mini4.Book.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 형식 CSV 를 한 레코드씩 읽는 리더 (파일 전체를 메모리에 올리지 않음)
+// - 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈, "" 이스케이프 지원
+// - 호출자가 BufferedReader 등으로 감싼 Reader 를 넘겨야 합니다.
+public class CsvReader {
+
+    private final Reader reader;
+    private int lineNumber = 1;     // 다음에 읽을 문자의 줄 번호
+    private int recordLineNumber;   // 마지막으로 읽은 레코드가 시작된 줄 번호
+    private int pending = -2;       // 미리 읽은 문자 (-2: 없음)
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 다음 레코드의 필드 목록. 더 이상 없으면 null
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLineNumber = lineNumber - (c == '\n' ? 1 : 0);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedCsvException(recordLineNumber, "닫히지 않은 큰따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    pending = next;
+                }
+                break;
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    // 입력 형식 오류 (입출력 오류와 구분하기 위한 타입). 오류가 난 레코드가 시작된 줄 번호를 담음
+    public static class MalformedCsvException extends IOException {
+
+        private final int lineNumber;
+
+        public MalformedCsvException(int lineNumber, String message) {
+            super(lineNumber + "번째 줄: " + message);
+            this.lineNumber = lineNumber;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pending != -2) {
+            c = pending;
+            pending = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mini4.Book.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+// RFC 4180 형식 CSV 를 한 레코드씩 쓰는 도구 (CsvReader 로 다시 읽을 수 있는 형식)
+// - 쉼표/큰따옴표/줄바꿈이 있는 필드는 큰따옴표로 감싸고, 필드 안의 큰따옴표는 "" 로 이스케이프
+// - null 필드는 빈 값으로 씀
+// - 호출자가 BufferedWriter 등으로 감싼 Writer 를 넘기고, flush/close 도 호출자가 처리합니다.
+public class CsvWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRecord(List<?> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object field = fields.get(i);
+            if (field != null) {
+                writeField(field.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String field) throws IOException {
+        boolean quote = field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,56 @@
+package com.mini4.Book.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// 같은 키에 대한 동시 로딩을 한 번으로 합치는 도구 (캐시 미스 시 DB/Redis 중복 조회 방지)
+// - Caffeine 의 cache.get(key, loader) 는 ConcurrentHashMap.compute 의 synchronized 안에서 loader 를 실행하므로
+//   loader 가 I/O 로 대기하는 동안 가상 스레드가 캐리어 스레드에 고정(pinning)됩니다.
+// - 여기서는 loader 를 락 밖에서 실행하고, 나머지 요청은 CompletableFuture 로 대기합니다 (가상 스레드는 unmount 됨).
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // loader 결과를 반환. 결과를 캐시에 넣는 publish 는 로딩 중 forget(key) 가 호출되지 않은 경우에만 실행됩니다.
+    public V load(K key, Function<K, V> loader, Consumer<V> publish) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V value = loader.apply(key);
+            if (inFlight.remove(key, mine) && value != null) {
+                publish.accept(value);
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 로딩 중인 값이 있다면 캐시에 넣지 않도록 표시 (수정/삭제로 캐시를 지울 때 호출)
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
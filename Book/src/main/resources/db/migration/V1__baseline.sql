@@ -0,0 +1,32 @@
+-- 기준 스키마: 기존 ddl-auto: update 로 만들어진 테이블과 동일 (이미 있는 DB 에서는 아무것도 하지 않음)
+CREATE TABLE IF NOT EXISTS user_table (
+    id bigint generated by default as identity,
+    name varchar(255) not null unique,
+    password varchar(255) not null,
+    email varchar(255) not null unique,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    deleted_at timestamp(6),
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS book_table (
+    id bigint generated by default as identity,
+    title varchar(255) not null,
+    author varchar(100),
+    publisher varchar(100),
+    published_date varchar(255),
+    content TEXT,
+    price integer,
+    category varchar(255),
+    image_url varchar(1024),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    user_id bigint not null,
+    deleted_at timestamp(6),
+    primary key (id)
+);
+
+-- Hibernate 가 만든 외래키와 같은 이름을 사용해 중복 생성 방지
+ALTER TABLE book_table ADD CONSTRAINT IF NOT EXISTS FKd6brg4t6b5f8sodte7n5v1tr0
+    FOREIGN KEY (user_id) REFERENCES user_table;
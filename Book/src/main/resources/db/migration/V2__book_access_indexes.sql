@@ -0,0 +1,8 @@
+-- 삭제되지 않은 도서 목록 (findFirstPage/findPageAfter, 요약 목록, countByDeletedAtIsNull)
+-- deleted_at IS NULL 조건 뒤에 키셋 정렬 컬럼 (created_at desc, id desc)
+CREATE INDEX IF NOT EXISTS idx_book_deleted_created ON book_table (deleted_at, created_at DESC, id DESC);
+
+-- 사용자별 도서 (findByUser_IdAndDeletedAtIsNull, findFirstPageByUserId/findPageAfterByUserId, countByUser_IdAndDeletedAtIsNull)
+CREATE INDEX IF NOT EXISTS idx_book_user_deleted_created ON book_table (user_id, deleted_at, created_at DESC, id DESC);
+
+-- findByIdAndDeletedAtIsNull 은 기본키로 한 건을 찾은 뒤 deleted_at 을 확인하므로 별도 인덱스 불필요
@@ -0,0 +1,8 @@
+-- 도서 목록 필터 (BookSpecifications): 조건 컬럼 + deleted_at IS NULL 뒤에 키셋 정렬 컬럼
+CREATE INDEX IF NOT EXISTS idx_book_category_deleted_created ON book_table (category, deleted_at, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_book_publisher_deleted_created ON book_table (publisher, deleted_at, created_at DESC, id DESC);
+
+-- 가격 범위는 정렬 컬럼을 이어 붙여도 범위 조건 뒤라 정렬에 쓰이지 않으므로 범위 검색용으로만
+CREATE INDEX IF NOT EXISTS idx_book_deleted_price ON book_table (deleted_at, price);
+
+-- ownerId 필터는 V2 의 idx_book_user_deleted_created 사용
@@ -0,0 +1,2 @@
+-- 낙관적 잠금 (Book.version): 기존 행과 JDBC 대량 등록은 0 부터 시작
+ALTER TABLE book_table ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
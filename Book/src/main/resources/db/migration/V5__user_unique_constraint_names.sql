@@ -0,0 +1,18 @@
+-- user_table 유니크 제약에 이름 부여 (중복 가입 시 위반한 제약 이름으로 이메일/이름을 구분)
+-- 기존 제약은 이름이 자동 생성(V1: CONSTRAINT_xx, ddl-auto: UK...)되어 DB 마다 다르므로 INFORMATION_SCHEMA 에서 찾아 삭제
+EXECUTE IMMEDIATE 'ALTER TABLE user_table DROP CONSTRAINT ' || (
+    SELECT QUOTE_IDENT(tc.constraint_name)
+    FROM information_schema.table_constraints tc
+    JOIN information_schema.key_column_usage kcu
+        ON kcu.constraint_schema = tc.constraint_schema AND kcu.constraint_name = tc.constraint_name
+    WHERE tc.table_schema = SCHEMA() AND tc.table_name = 'USER_TABLE'
+        AND tc.constraint_type = 'UNIQUE' AND kcu.column_name = 'EMAIL');
+EXECUTE IMMEDIATE 'ALTER TABLE user_table DROP CONSTRAINT ' || (
+    SELECT QUOTE_IDENT(tc.constraint_name)
+    FROM information_schema.table_constraints tc
+    JOIN information_schema.key_column_usage kcu
+        ON kcu.constraint_schema = tc.constraint_schema AND kcu.constraint_name = tc.constraint_name
+    WHERE tc.table_schema = SCHEMA() AND tc.table_name = 'USER_TABLE'
+        AND tc.constraint_type = 'UNIQUE' AND kcu.column_name = 'NAME');
+ALTER TABLE user_table ADD CONSTRAINT uk_user_email UNIQUE (email);
+ALTER TABLE user_table ADD CONSTRAINT uk_user_name UNIQUE (name);
@@ -0,0 +1,151 @@
+package com.mini4.Book;
+
+import com.mini4.Book.dto.BookListRequestDto;
+import com.mini4.Book.dto.BookListResponseDto;
+import com.mini4.Book.service.BookService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 도서 목록 필터 (category/publisher/price/ownerId) 를 수백만 건 데이터에서 측정
+// - V3 인덱스가 없을 때 (정렬 인덱스를 따라 전체 스캔) 와 있을 때의 페이지당 응답 시간 비교
+// 실행: ./gradlew benchmark --tests '*BookFilterBenchmarkTest' -Dbenchmark.filter.rows=2000000
+@Tag("benchmark")
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:file:./build/benchmark/book-filter",
+		"spring.jpa.show-sql=false",
+		"logging.level.com.mini4.Book=WARN"
+})
+class BookFilterBenchmarkTest {
+
+	private static final int ROWS = Integer.getInteger("benchmark.filter.rows", 2_000_000);
+	private static final int USERS = 1000;
+	private static final int CHUNK = 100_000;
+	private static final int ITERATIONS = Integer.getInteger("benchmark.filter.iterations", 200);
+	private static final String[] V3_INDEXES = {
+			"idx_book_category_deleted_created", "idx_book_publisher_deleted_created", "idx_book_deleted_price"};
+	private static final String[] SCAN_SCENARIOS = {"category", "publisher", "price range"};
+
+	static {
+		// 매번 새 데이터로 측정
+		try {
+			FileSystemUtils.deleteRecursively(Path.of("build", "benchmark"));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void filteredPagesUseIndexes() {
+		// V3 인덱스 없이 데이터를 만들고 먼저 측정한 뒤, 마이그레이션 스크립트로 인덱스를 다시 만들어 측정
+		for (String index : V3_INDEXES) {
+			jdbcTemplate.execute("DROP INDEX " + index);
+		}
+		long started = System.nanoTime();
+		long firstUserId = generate();
+		System.out.printf("[benchmark] generated %,d books / %d users in %.1fs%n",
+				ROWS, USERS, (System.nanoTime() - started) / 1e9);
+
+		Map<String, Consumer<BookListRequestDto>> scenarios = new LinkedHashMap<>();
+		scenarios.put("no filter", request -> { });
+		scenarios.put("category", request -> request.setCategory("cat7"));
+		scenarios.put("publisher", request -> request.setPublisher("publisher 42"));
+		scenarios.put("price range", request -> {
+			request.setMinPrice(10_000);
+			request.setMaxPrice(10_500);
+		});
+		scenarios.put("owner", request -> request.setOwnerId(firstUserId + 7));
+		scenarios.put("category + price", request -> {
+			request.setCategory("cat7");
+			request.setMinPrice(10_000);
+			request.setMaxPrice(30_000);
+		});
+
+		measure("no filter (warmup)", scenarios.get("no filter"), ITERATIONS);
+		Map<String, double[]> scan = new LinkedHashMap<>();
+		for (String name : SCAN_SCENARIOS) {
+			scan.put(name, measure(name + " (no index)", scenarios.get(name), Math.min(ITERATIONS, 20)));
+		}
+
+		started = System.nanoTime();
+		new ResourceDatabasePopulator(new ClassPathResource("db/migration/V3__book_filter_indexes.sql")).execute(dataSource);
+		jdbcTemplate.execute("ANALYZE");
+		System.out.printf("[benchmark] created V3 indexes in %.1fs%n", (System.nanoTime() - started) / 1e9);
+		Map<String, double[]> indexed = new LinkedHashMap<>();
+		scenarios.forEach((name, filter) -> indexed.put(name, measure(name + " (indexed)", filter, ITERATIONS)));
+
+		for (String name : SCAN_SCENARIOS) {
+			assertThat(indexed.get(name)[0]).as(name).isLessThan(scan.get(name)[0]);
+		}
+	}
+
+	// 첫 페이지 + 커서로 다음 페이지를 이어서 요청 (요약 목록, 20건) -> {평균 ms, p99 ms}
+	private double[] measure(String name, Consumer<BookListRequestDto> filter, int iterations) {
+		int warmup = Math.min(iterations, 20);
+		double[] millis = new double[iterations];
+		for (int i = -warmup; i < iterations; i++) {
+			BookListRequestDto request = new BookListRequestDto();
+			request.setView("summary");
+			request.setSize(20);
+			filter.accept(request);
+			long started = System.nanoTime();
+			BookListResponseDto<?> first = bookService.getAllBookSummaries(request);
+			request.setCursor(first.getNextCursor());
+			BookListResponseDto<?> second = bookService.getAllBookSummaries(request);
+			if (i >= 0) {
+				millis[i] = (System.nanoTime() - started) / 1e6 / 2;
+			}
+			assertThat(first.getBooks()).hasSize(20);
+			assertThat(second.getBooks()).isNotEmpty();
+		}
+		Arrays.sort(millis);
+		double average = Arrays.stream(millis).average().orElse(0);
+		double p99 = millis[Math.min(millis.length - 1, (int) Math.ceil(millis.length * 0.99) - 1)];
+		System.out.printf("[benchmark] %-26s avg %8.2f ms | p99 %8.2f ms per page%n", name, average, p99);
+		return new double[]{average, p99};
+	}
+
+	// 사용자 1000명, 도서 ROWS 건 (카테고리 50개, 출판사 500개, 가격 0~99999, 5% 삭제)
+	private long generate() {
+		jdbcTemplate.update("INSERT INTO user_table (name, password, email, created_at, updated_at)"
+				+ " SELECT 'bench-' || X, 'x', 'bench-' || X || '@bench.test', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP"
+				+ " FROM SYSTEM_RANGE(1, ?)", USERS);
+		long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM user_table", Long.class);
+		for (int from = 1; from <= ROWS; from += CHUNK) {
+			jdbcTemplate.update("INSERT INTO book_table (title, author, publisher, category, price, created_at, updated_at, user_id, deleted_at)"
+							+ " SELECT 'title ' || X, 'author ' || MOD(X, 5000), 'publisher ' || MOD(X, 500), 'cat' || MOD(X, 50),"
+							+ " MOD(X * 7919, 100000), DATEADD(SECOND, X, TIMESTAMP '2020-01-01 00:00:00'),"
+							+ " DATEADD(SECOND, X, TIMESTAMP '2020-01-01 00:00:00'), ? + MOD(X, ?),"
+							+ " CASE WHEN MOD(X, 20) = 0 THEN CURRENT_TIMESTAMP END"
+							+ " FROM SYSTEM_RANGE(?, ?)",
+					firstUserId, USERS, from, Math.min(ROWS, from + CHUNK - 1));
+		}
+		jdbcTemplate.execute("ANALYZE");
+		return firstUserId;
+	}
+}
@@ -0,0 +1,83 @@
+package com.mini4.Book;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookImportResultDto;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.service.BookImportService;
+import com.mini4.Book.service.BookService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 도서 대량 등록(JDBC 배치) 과 도서 등록 API 경로(요청당 1건, 1트랜잭션) 처리량 비교
+// 실행: ./gradlew benchmark -Dbenchmark.rows=20000
+@Tag("benchmark")
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:import-benchmark",
+		"spring.jpa.show-sql=false",
+		"logging.level.com.mini4.Book.service=WARN"
+})
+class BookImportBenchmarkTest {
+
+	private static final int ROWS = Integer.getInteger("benchmark.rows", 5000);
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private BookImportService bookImportService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void importIsFasterThanPerRequestCreate() throws Exception {
+		Long userId = userRepository.save(User.builder()
+				.name("benchmark").email("benchmark@example.com").password("x").build()).getId();
+
+		long started = System.nanoTime();
+		for (int i = 0; i < ROWS; i++) {
+			bookService.createBook(request(i), userId);
+		}
+		double perRequestSeconds = (System.nanoTime() - started) / 1e9;
+
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < ROWS; i++) {
+			ndjson.append("{\"title\":\"대량 등록 ").append(i)
+					.append("\",\"author\":\"저자\",\"publisher\":\"출판사\",\"publishedDate\":\"2024-01-01\",")
+					.append("\"content\":\"내용\",\"price\":").append(i).append(",\"category\":\"IT\"}\n");
+		}
+		byte[] body = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+
+		started = System.nanoTime();
+		BookImportResultDto result = bookImportService.importBooks(
+				new ByteArrayInputStream(body), BookImportService.Format.NDJSON, userId);
+		double importSeconds = (System.nanoTime() - started) / 1e9;
+
+		System.out.printf("[benchmark] %d rows | per-request create: %.2fs (%.0f rows/s) | bulk import: %.2fs (%.0f rows/s)%n",
+				ROWS, perRequestSeconds, ROWS / perRequestSeconds, importSeconds, ROWS / importSeconds);
+
+		assertThat(result.getImportedRows()).isEqualTo(ROWS);
+		assertThat(result.getFailedRows()).isZero();
+		assertThat(importSeconds).isLessThan(perRequestSeconds);
+	}
+
+	private static BookRequestDto request(int i) {
+		BookRequestDto dto = new BookRequestDto();
+		dto.setTitle("단건 등록 " + i);
+		dto.setAuthor("저자");
+		dto.setPublisher("출판사");
+		dto.setPublishedDate("2024-01-01");
+		dto.setContent("내용");
+		dto.setPrice(i);
+		dto.setCategory("IT");
+		return dto;
+	}
+}
@@ -0,0 +1,186 @@
+package com.mini4.Book;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.service.BookService;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 높은 동시성에서 플랫폼 스레드(기본, Tomcat 스레드 풀) 와 가상 스레드 모드의 처리량 비교
+// - GET /api/v1/books/{id} 앞에 Redis/DB 왕복을 흉내 낸 대기(benchmark.io-latency-ms)를 넣어 I/O 대기 비중이 큰 요청을 재현
+//   플랫폼 스레드 모드의 상한은 Tomcat 스레드 수(기본 200) / 대기 시간 이므로, CPU 여유가 있는 환경에서 차이가 드러남
+// - 가상 스레드 모드는 Java 21 런타임에서만 측정: ./gradlew benchmark -PjavaVersion=21 --tests '*VirtualThreadLoad*'
+// - 옵션: -Dbenchmark.concurrency=1000 -Dbenchmark.seconds=10 -Dbenchmark.io-latency-ms=100
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+	private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+	private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+	private static final long IO_LATENCY_MS = Long.getLong("benchmark.io-latency-ms", 100);
+
+	@Test
+	void compareThroughput() throws Exception {
+		Result platform = run(false);
+		System.out.printf("[benchmark] platform threads: %s%n", platform);
+
+		if (Runtime.version().feature() < 21) {
+			System.out.printf("[benchmark] virtual threads: skipped (Java %d runtime, run with -PjavaVersion=21)%n",
+					Runtime.version().feature());
+			return;
+		}
+		Result virtual = run(true);
+		System.out.printf("[benchmark] virtual threads:  %s%n", virtual);
+		assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+	}
+
+	private Result run(boolean virtualThreads) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookApplication.class, IoLatencyConfig.class)
+				.run("--server.port=0",
+						"--spring.threads.virtual.enabled=" + virtualThreads,
+						"--spring.datasource.url=jdbc:h2:mem:vt-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+						"--spring.jpa.show-sql=false",
+						"--book.cache.detail.enabled=false",
+						"--logging.level.root=WARN",
+						"--logging.level.com.mini4.Book=WARN",
+						"--logging.level.org.springframework.security=WARN")) {
+			Long userId = context.getBean(UserRepository.class).save(User.builder()
+					.name("benchmark").email("benchmark@example.com").password("x").build()).getId();
+			Long bookId = context.getBean(BookService.class).createBook(request(), userId).getId();
+			int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+			URL url = new URL("http://localhost:" + port + "/api/v1/books/" + bookId);
+
+			load(url, 3); // 워밍업
+			return load(url, SECONDS);
+		}
+	}
+
+	// CONCURRENCY 개의 클라이언트가 응답을 받는 즉시 다음 요청을 보내는 닫힌 루프 부하
+	private Result load(URL url, int seconds) throws Exception {
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong errors = new AtomicLong();
+		LongAdder completed = new LongAdder(); // 측정 구간 안에 끝난 요청 수
+		List<long[]> latencies = new ArrayList<>();
+		List<Thread> workers = new ArrayList<>();
+		for (int i = 0; i < CONCURRENCY; i++) {
+			long[] samples = new long[1 << 12];
+			latencies.add(samples);
+			Thread worker = new Thread(() -> {
+				byte[] buffer = new byte[8192];
+				int n = 0;
+				while (running.get()) {
+					long started = System.nanoTime();
+					try {
+						// HttpURLConnection 은 응답 본문을 끝까지 읽으면 keep-alive 연결을 재사용
+						HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+						connection.setReadTimeout(30_000);
+						if (connection.getResponseCode() != 200) {
+							errors.incrementAndGet();
+						}
+						try (InputStream body = connection.getInputStream()) {
+							while (body.read(buffer) >= 0) {
+								// 본문 버림
+							}
+						}
+					} catch (IOException e) {
+						errors.incrementAndGet();
+					}
+					if (running.get()) {
+						completed.increment();
+					}
+					if (n < samples.length - 1) {
+						samples[++n] = System.nanoTime() - started;
+					}
+					samples[0] = n;
+				}
+			});
+			worker.setDaemon(true);
+			workers.add(worker);
+		}
+
+		long started = System.nanoTime();
+		workers.forEach(Thread::start);
+		TimeUnit.SECONDS.sleep(seconds);
+		running.set(false);
+		double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+		for (Thread worker : workers) {
+			worker.join(TimeUnit.SECONDS.toMillis(30));
+		}
+
+		long total = latencies.stream().mapToLong(samples -> samples[0]).sum();
+		long[] all = new long[(int) total];
+		int offset = 0;
+		for (long[] samples : latencies) {
+			int n = (int) samples[0];
+			System.arraycopy(samples, 1, all, offset, n);
+			offset += n;
+		}
+		Arrays.sort(all);
+		return new Result(completed.sum() / elapsedSeconds, percentileMillis(all, 0.50), percentileMillis(all, 0.99), errors.get());
+	}
+
+	private static double percentileMillis(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+	}
+
+	private static BookRequestDto request() {
+		BookRequestDto dto = new BookRequestDto();
+		dto.setTitle("부하 테스트");
+		dto.setAuthor("저자");
+		dto.setPublisher("출판사");
+		dto.setPublishedDate("2024-01-01");
+		dto.setContent("내용");
+		dto.setPrice(10000);
+		dto.setCategory("IT");
+		return dto;
+	}
+
+	private record Result(double throughput, double p50Millis, double p99Millis, long errors) {
+		@Override
+		public String toString() {
+			return String.format("%d clients, %.0f req/s, p50 %.1f ms, p99 %.1f ms, errors %d",
+					CONCURRENCY, throughput, p50Millis, p99Millis, errors);
+		}
+	}
+
+	// 원격 Redis/DB 왕복 대기 시간을 흉내 내는 필터 (요청 스레드를 대기시킴)
+	// 다른 테스트의 컴포넌트 스캔에 포함되지 않도록 @Configuration 없이 소스 클래스로만 등록
+	static class IoLatencyConfig {
+		@Bean
+		@Order(Ordered.HIGHEST_PRECEDENCE)
+		Filter ioLatencyFilter() {
+			return (request, response, chain) -> {
+				try {
+					Thread.sleep(IO_LATENCY_MS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				chain.doFilter(request, response);
+			};
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.mini4.Book.cache;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.service.BookImportService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+// 트랜잭션 밖에서 발행되는 대량 등록 이벤트도 다른 노드로 전파되는지 확인
+// (Redis 가 없어도 전송 시도 자체를 StringRedisTemplate 스파이로 확인)
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:broadcast",
+		"spring.jpa.show-sql=false"
+})
+class BookChangeBroadcasterTest {
+
+	@Autowired
+	private BookImportService bookImportService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoSpyBean
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Test
+	void importedEventIsBroadcastWithoutTransaction() throws Exception {
+		User user = userRepository.save(User.builder().name("importer").email("importer@test.com").password("pw").build());
+		String ndjson = "{\"title\":\"t1\",\"publisher\":\"p\",\"publishedDate\":\"2024-01-01\"}\n";
+
+		bookImportService.importBooks(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+				BookImportService.Format.NDJSON, user.getId());
+
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		verify(stringRedisTemplate, atLeastOnce()).convertAndSend(eq(BookChangeBroadcaster.TOPIC.getTopic()), payload.capture());
+		assertThat(payload.getAllValues()).anyMatch(message -> message.contains("\"IMPORTED\""));
+	}
+}
@@ -0,0 +1,92 @@
+package com.mini4.Book.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mini4.Book.dto.BookResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// DB 조회 도중 수정/삭제로 캐시가 지워진 경우 조회한 (이전) 값을 Redis 와 로컬 캐시에 다시 넣지 않는지 확인
+class BookDetailCacheTest {
+
+	private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> values = mock(ValueOperations.class);
+	private BookDetailCache cache;
+
+	@BeforeEach
+	void setUp() {
+		when(redis.opsForValue()).thenReturn(values);
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		cache = new BookDetailCache(redis, objectMapper, true, 100, 60, 600);
+	}
+
+	@Test
+	void loadedValueIsWrittenToRedis() {
+		cache.get(1L, id -> book(id, "old"));
+
+		verify(values).set(eq("book:detail:1"), anyString(), eq(Duration.ofSeconds(600)));
+	}
+
+	@Test
+	void valueLoadedBeforeEvictionIsNotWritten() {
+		BookResponseDto loaded = cache.get(1L, id -> {
+			BookResponseDto stale = book(id, "old");
+			cache.evict(id); // 조회와 수정 커밋이 겹친 경우
+			return stale;
+		});
+
+		assertThat(loaded.getTitle()).isEqualTo("old");
+		verify(values, never()).set(anyString(), anyString(), any(Duration.class));
+		assertThat(cache.get(1L, id -> book(id, "new")).getTitle()).isEqualTo("new");
+	}
+
+	@Test
+	void evictionRacingPublishDoesNotLeaveStaleValue() {
+		// 조회가 끝난 직후 (SingleFlight 가 결과를 로컬 캐시에 넣기 전) 수정 커밋 + 무효화가 끼어드는 경우
+		AtomicInteger version = new AtomicInteger();
+		for (int i = 0; i < 2_000; i++) {
+			AtomicBoolean loaded = new AtomicBoolean();
+			CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+				while (!loaded.get()) {
+					Thread.yield();
+				}
+				version.incrementAndGet();
+				cache.evict(1L);
+			});
+			cache.get(1L, id -> {
+				BookResponseDto read = book(id, "v" + version.get());
+				loaded.set(true);
+				return read;
+			});
+			writer.join();
+
+			String current = "v" + version.get();
+			assertThat(cache.get(1L, id -> book(id, current)).getTitle()).as("iteration %d", i).isEqualTo(current);
+			cache.evict(1L);
+		}
+	}
+
+	private static BookResponseDto book(Long id, String title) {
+		BookResponseDto book = new BookResponseDto();
+		book.setId(id);
+		book.setTitle(title);
+		return book;
+	}
+}
@@ -0,0 +1,60 @@
+package com.mini4.Book.config;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /actuator: 헬스 체크만 공개, Prometheus 수집 등 나머지는 인증 필요
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:actuator",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability // 테스트에서는 기본적으로 Prometheus 레지스트리가 꺼져 있음
+class ActuatorSecurityTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Test
+	void prometheusRequiresAuthentication() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+
+		User user = userRepository.save(User.builder().name("scraper").email("scraper@test.com").password("pw").build());
+		CustomUserDetails details = new CustomUserDetails(user);
+		String token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+		mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("jvm_memory_used_bytes")));
+	}
+
+	@Test
+	void healthIsPublic() throws Exception {
+		// Redis 가 없으면 503 (DOWN) 이므로 상태 값이 아니라 인증 없이 접근되는지만 확인
+		int status = mockMvc.perform(get("/actuator/health")).andReturn().getResponse().getStatus();
+		assertThat(status).isNotEqualTo(403);
+	}
+}
@@ -0,0 +1,89 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.cache.BookDetailCache;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.service.BookService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// GET /api/v1/books/batch?ids=: 요청 순서대로 반환, 없거나 삭제된 ID 는 missingIds, 두 번째 조회는 캐시에서
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:batch",
+		"spring.jpa.show-sql=false",
+		"book.batch.max-ids=5"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookBatchTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private BookDetailCache bookDetailCache;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private Long first;
+	private Long second;
+	private Long deleted;
+
+	@BeforeAll
+	void setUp() {
+		Long userId = userRepository.save(User.builder().name("batch").email("batch@test.com").password("pw").build()).getId();
+		first = create("첫째", userId);
+		second = create("둘째", userId);
+		deleted = create("삭제됨", userId);
+		bookService.deleteBook(deleted, userId);
+	}
+
+	@Test
+	void booksFollowRequestOrderAndMissingIdsAreReported() throws Exception {
+		String ids = second + ",999999," + first + "," + deleted + "," + second;
+
+		mockMvc.perform(get("/api/v1/books/batch?ids=" + ids))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.books[*].id").value(contains(second.intValue(), first.intValue())))
+				.andExpect(jsonPath("$.data.books[0].title").value("둘째"))
+				.andExpect(jsonPath("$.data.missingIds").value(contains(999999, deleted.intValue())));
+
+		// 같은 요청을 다시 보내면 상세 캐시에서 응답 (DB 조회 없음)
+		long dbLoads = bookDetailCache.getRedisMissCount();
+		mockMvc.perform(get("/api/v1/books/batch?ids=" + first + "," + second))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.books[*].id").value(contains(first.intValue(), second.intValue())));
+		assertThat(bookDetailCache.getRedisMissCount()).isEqualTo(dbLoads);
+	}
+
+	@Test
+	void emptyOrTooManyIdsAreBadRequest() throws Exception {
+		mockMvc.perform(get("/api/v1/books/batch")).andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/v1/books/batch?ids=1,2,3,4,5,6")).andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/v1/books/batch?ids=1,1,1,1,1,1")).andExpect(status().isOk()); // 중복은 한 번으로
+	}
+
+	private Long create(String title, Long userId) {
+		BookRequestDto request = new BookRequestDto();
+		request.setTitle(title);
+		request.setPublisher("출판사");
+		request.setPublishedDate("2024-01-01");
+		return bookService.createBook(request, userId).getId();
+	}
+}
@@ -0,0 +1,147 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import com.mini4.Book.service.BookService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 조건부 GET: 상세(ETag/Last-Modified), 공개 목록, 내 목록의 304 와 변경 후 200
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:conditional",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookConditionalGetTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private Long userId;
+	private String token;
+
+	@BeforeAll
+	void setUp() {
+		User user = userRepository.save(User.builder().name("etag").email("etag@test.com").password("pw").build());
+		userId = user.getId();
+		CustomUserDetails details = new CustomUserDetails(user);
+		token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+	}
+
+	@Test
+	void bookDetailAnswersNotModifiedUntilUpdated() throws Exception {
+		Long bookId = bookService.createBook(request("상세"), userId).getId();
+		MockHttpServletResponse first = mockMvc.perform(get("/api/v1/books/" + bookId))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		String eTag = first.getHeader(HttpHeaders.ETAG);
+		String lastModified = first.getHeader(HttpHeaders.LAST_MODIFIED);
+		assertThat(eTag).isEqualTo("\"b" + bookId + "-v0\"");
+		assertThat(lastModified).isNotNull();
+
+		mockMvc.perform(get("/api/v1/books/" + bookId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+		mockMvc.perform(get("/api/v1/books/" + bookId).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+				.andExpect(status().isNotModified());
+
+		bookService.updateBook(bookId, request("상세 수정"), userId);
+		String updated = mockMvc.perform(get("/api/v1/books/" + bookId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(updated).isEqualTo("\"b" + bookId + "-v1\"");
+	}
+
+	@Test
+	void bookListAnswersNotModifiedUntilCatalogChanges() throws Exception {
+		String eTag = mockMvc.perform(get("/api/v1/books"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/v1/books").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+
+		bookService.createBook(request("목록"), userId);
+		String changed = mockMvc.perform(get("/api/v1/books").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(changed).isNotEqualTo(eTag);
+	}
+
+	@Test
+	void gzipListHasItsOwnETag() throws Exception {
+		MockHttpServletResponse identity = mockMvc.perform(get("/api/v1/books"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		MockHttpServletResponse gzip = mockMvc.perform(get("/api/v1/books").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andReturn().getResponse();
+		String identityETag = identity.getHeader(HttpHeaders.ETAG);
+		String gzipETag = gzip.getHeader(HttpHeaders.ETAG);
+		assertThat(gzipETag).isEqualTo(identityETag.replaceFirst("\"$", "-gz\""));
+		assertThat(identity.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+		assertThat(gzip.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+
+		mockMvc.perform(get("/api/v1/books").header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+		// 다른 인코딩의 ETag 로는 304 가 되지 않음 (캐시가 압축 본문을 원본으로 재사용하지 않도록)
+		mockMvc.perform(get("/api/v1/books").header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, identityETag));
+		mockMvc.perform(get("/api/v1/books").header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, identityETag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, gzipETag));
+	}
+
+	@Test
+	void myListETagIsPerUser() throws Exception {
+		MockHttpServletResponse first = mockMvc.perform(get("/api/v1/books/my").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		String eTag = first.getHeader(HttpHeaders.ETAG);
+		assertThat(eTag).endsWith("-u" + userId + "\"");
+		assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).contains("private");
+
+		mockMvc.perform(get("/api/v1/books/my").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+						.header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+	}
+
+	private static BookRequestDto request(String title) {
+		BookRequestDto request = new BookRequestDto();
+		request.setTitle(title);
+		request.setPublisher("출판사");
+		request.setPublishedDate("2024-01-01");
+		return request;
+	}
+}
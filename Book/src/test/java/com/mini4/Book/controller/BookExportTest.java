@@ -0,0 +1,206 @@
+package com.mini4.Book.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import com.mini4.Book.service.BookService;
+import com.mini4.Book.util.CsvReader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 도서 내보내기 (StreamingResponseBody 비동기 응답): NDJSON/CSV, updatedSince/ownerId/includeDeleted 조건, gzip
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:export",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookExportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private Long ownerId;
+	private Long otherId;
+	private String token;
+
+	@BeforeAll
+	void setUp() {
+		User owner = userRepository.save(User.builder().name("exporter").email("exporter@test.com").password("pw").build());
+		User other = userRepository.save(User.builder().name("other").email("other-export@test.com").password("pw").build());
+		ownerId = owner.getId();
+		otherId = other.getId();
+		CustomUserDetails details = new CustomUserDetails(owner);
+		token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+
+		Long old = bookService.createBook(bookRequest("오래된 책"), ownerId).getId();
+		bookService.createBook(bookRequest("쉼표, \"따옴표\"\n줄바꿈"), ownerId);
+		Long deleted = bookService.createBook(bookRequest("삭제된 책"), ownerId).getId();
+		bookService.deleteBook(deleted, ownerId);
+		bookService.createBook(bookRequest("다른 사용자 책"), otherId);
+		jdbcTemplate.update("update book_table set updated_at = timestamp '2020-01-01 00:00:00' where id = ?", old);
+	}
+
+	@Test
+	void ndjsonFiltersByOwner() throws Exception {
+		MockHttpServletResponse response = export("format=ndjson&ownerId=" + ownerId);
+
+		assertThat(response.getContentType()).startsWith("application/x-ndjson");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("books.ndjson");
+		assertThat(titles(ndjson(response.getContentAsByteArray())))
+				.containsExactly("오래된 책", "쉼표, \"따옴표\"\n줄바꿈");
+	}
+
+	@Test
+	void ndjsonIsDefaultAndCoversAllOwners() throws Exception {
+		assertThat(titles(ndjson(export("").getContentAsByteArray())))
+				.contains("오래된 책", "다른 사용자 책")
+				.doesNotContain("삭제된 책");
+	}
+
+	@Test
+	void updatedSinceSkipsOlderBooks() throws Exception {
+		MockHttpServletResponse response = export("ownerId=" + ownerId + "&updatedSince=2024-01-01T00:00:00");
+
+		assertThat(titles(ndjson(response.getContentAsByteArray()))).containsExactly("쉼표, \"따옴표\"\n줄바꿈");
+	}
+
+	@Test
+	void includeDeletedOnlyForOwnBooks() throws Exception {
+		List<JsonNode> books = ndjson(export("ownerId=" + ownerId + "&includeDeleted=true").getContentAsByteArray());
+		assertThat(titles(books)).containsExactly("오래된 책", "쉼표, \"따옴표\"\n줄바꿈", "삭제된 책");
+		assertThat(books.get(2).get("deletedAt").isNull()).isFalse();
+
+		mockMvc.perform(get("/api/v1/books/export?includeDeleted=true&ownerId=" + otherId)
+						.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void csvIsQuotedAndReadableByImport() throws Exception {
+		MockHttpServletResponse response = export("format=csv&ownerId=" + ownerId);
+
+		assertThat(response.getContentType()).startsWith("text/csv");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("books.csv");
+		List<List<String>> records = csv(response.getContentAsString(StandardCharsets.UTF_8));
+		assertThat(records.get(0)).startsWith("id", "title", "author", "publisher", "publishedDate");
+		assertThat(records).hasSize(3);
+		assertThat(records.get(1).get(1)).isEqualTo("오래된 책");
+		assertThat(records.get(2).get(1)).isEqualTo("쉼표, \"따옴표\"\n줄바꿈");
+		assertThat(records.get(2).get(9)).isEqualTo(String.valueOf(ownerId)); // authorId
+	}
+
+	@Test
+	void gzipMatchesPlainOutput() throws Exception {
+		byte[] plain = export("ownerId=" + ownerId).getContentAsByteArray();
+		MockHttpServletResponse ndjsonGzip = export("ownerId=" + ownerId + "&gzip=true");
+		assertThat(ndjsonGzip.getContentType()).isEqualTo("application/gzip");
+		assertThat(ndjsonGzip.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("books.ndjson.gz");
+		assertThat(gunzip(ndjsonGzip.getContentAsByteArray())).isEqualTo(plain);
+
+		byte[] plainCsv = export("format=csv&ownerId=" + ownerId).getContentAsByteArray();
+		MockHttpServletResponse csvGzip = export("format=csv&ownerId=" + ownerId + "&gzip=true");
+		assertThat(csvGzip.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("books.csv.gz");
+		assertThat(gunzip(csvGzip.getContentAsByteArray())).isEqualTo(plainCsv);
+	}
+
+	@Test
+	void unknownFormatIsBadRequest() throws Exception {
+		mockMvc.perform(get("/api/v1/books/export?format=xml").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isBadRequest());
+	}
+
+	// 응답 본문은 비동기로 쓰이므로 asyncDispatch 로 완료를 기다린 뒤 읽음
+	private MockHttpServletResponse export(String query) throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/v1/books/export?" + query)
+						.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.CONTENT_DISPOSITION))
+				.andReturn().getResponse();
+	}
+
+	private List<JsonNode> ndjson(byte[] body) throws Exception {
+		List<JsonNode> books = new ArrayList<>();
+		for (String line : new String(body, StandardCharsets.UTF_8).split("\n")) {
+			if (!line.isEmpty()) {
+				books.add(objectMapper.readTree(line));
+			}
+		}
+		return books;
+	}
+
+	private static List<String> titles(List<JsonNode> books) {
+		return books.stream().map(book -> book.get("title").asText()).toList();
+	}
+
+	private static List<List<String>> csv(String body) throws Exception {
+		CsvReader reader = new CsvReader(new StringReader(body));
+		List<List<String>> records = new ArrayList<>();
+		List<String> record;
+		while ((record = reader.readRecord()) != null) {
+			records.add(record);
+		}
+		return records;
+	}
+
+	private static byte[] gunzip(byte[] body) throws Exception {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return in.readAllBytes();
+		}
+	}
+
+	private static BookRequestDto bookRequest(String title) {
+		BookRequestDto request = new BookRequestDto();
+		request.setTitle(title);
+		request.setPublisher("출판사");
+		request.setPublishedDate("2024-01-01");
+		return request;
+	}
+}
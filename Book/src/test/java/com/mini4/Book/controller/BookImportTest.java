@@ -0,0 +1,91 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.repository.BookRepository;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// CSV 대량 등록: 닫히지 않은 큰따옴표는 500 이 아니라 줄 번호가 담긴 행 오류 (앞선 행은 등록)
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:import",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookImportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private String token;
+
+	@BeforeAll
+	void setUp() {
+		User user = userRepository.save(User.builder().name("import").email("import@test.com").password("pw").build());
+		CustomUserDetails details = new CustomUserDetails(user);
+		token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+	}
+
+	@Test
+	void csvImportsRows() throws Exception {
+		mockMvc.perform(importCsv("title,publisher,publishedDate,price\n정상,출판사,2024-01-01,1000\n\"쉼표, 포함\",출판사,2024-01-01,2000\n"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.importedRows").value(2))
+				.andExpect(jsonPath("$.data.failedRows").value(0));
+	}
+
+	@Test
+	void truncatedQuotedFieldIsRowErrorWithLineNumber() throws Exception {
+		long before = bookRepository.count();
+
+		mockMvc.perform(importCsv("title,publisher,publishedDate\n앞선 행,출판사,2024-01-01\n\"잘린 필드,출판사,2024-01-01\n뒤의 행,출판사,2024-01-01\n"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.importedRows").value(1))
+				.andExpect(jsonPath("$.data.failedRows").value(1))
+				.andExpect(jsonPath("$.data.errors[0].line").value(3))
+				.andExpect(jsonPath("$.data.errors[0].message", containsString("큰따옴표")));
+		assertThat(bookRepository.count()).isEqualTo(before + 1);
+	}
+
+	@Test
+	void truncatedHeaderIsBadRequest() throws Exception {
+		mockMvc.perform(importCsv("\"title,publisher,publishedDate\n"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private RequestBuilder importCsv(String csv) {
+		return post("/api/v1/books/import")
+				.contentType("text/csv")
+				.content(csv.getBytes(StandardCharsets.UTF_8))
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+	}
+}
@@ -0,0 +1,114 @@
+package com.mini4.Book.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini4.Book.domain.Book;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.repository.BookRepository;
+import com.mini4.Book.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 목록 API 키셋 페이징: createdAt 이 같은 도서는 id 내림차순으로 빠짐없이/중복 없이 이어지고,
+// 마지막 페이지의 nextCursor 는 null, 잘못된 커서는 400
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:paging",
+		"spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookListPagingTest {
+
+	private static final LocalDateTime TIED = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long ownerId;
+	private final List<Long> expectedOrder = new ArrayList<>();
+
+	@BeforeAll
+	void setUp() {
+		User owner = userRepository.save(User.builder().name("pager").email("pager@test.com").password("pw").build());
+		ownerId = owner.getId();
+		List<Long> tied = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			tied.add(bookRepository.save(Book.builder().title("tied " + i).category("IT").user(owner).build()).getId());
+		}
+		Long newest = bookRepository.save(Book.builder().title("newest").category("IT").user(owner).build()).getId();
+		jdbcTemplate.update("update book_table set created_at = ?", TIED);
+		jdbcTemplate.update("update book_table set created_at = ? where id = ?", TIED.plusDays(1), newest);
+
+		expectedOrder.add(newest);
+		tied.stream().sorted((a, b) -> Long.compare(b, a)).forEach(expectedOrder::add);
+	}
+
+	// 전용 쿼리(필터 없음)와 Specification 조회(필터 있음) 양쪽, 전체/요약 목록 모두 같은 순서
+	@ParameterizedTest
+	@ValueSource(strings = {"", "&view=summary", "&category=IT", "&view=summary&ownerId=OWNER"})
+	void pagesFollowCreatedAtThenIdWithoutGapsOrDuplicates(String query) throws Exception {
+		String params = query.replace("OWNER", String.valueOf(ownerId));
+		List<Long> ids = new ArrayList<>();
+		List<Integer> pageSizes = new ArrayList<>();
+		String cursor = null;
+		do {
+			String url = "/api/v1/books?size=2" + params + (cursor == null ? "" : "&cursor=" + cursor);
+			JsonNode data = objectMapper.readTree(mockMvc.perform(get(url))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsByteArray()).get("data");
+			data.get("books").forEach(book -> ids.add(book.get("id").asLong()));
+			pageSizes.add(data.get("books").size());
+			cursor = data.get("nextCursor").isNull() ? null : data.get("nextCursor").asText();
+			assertThat(data.get("hasNext").asBoolean()).isEqualTo(cursor != null);
+		} while (cursor != null && pageSizes.size() < 10);
+
+		assertThat(ids).containsExactlyElementsOf(expectedOrder);
+		assertThat(pageSizes).containsExactly(2, 2, 2); // 마지막 페이지가 꽉 차도 빈 페이지를 더 요청하지 않음
+	}
+
+	@Test
+	void lastPageHasNoNextCursor() throws Exception {
+		mockMvc.perform(get("/api/v1/books?size=100"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.books.length()").value(expectedOrder.size()))
+				.andExpect(jsonPath("$.data.nextCursor").isEmpty())
+				.andExpect(jsonPath("$.data.hasNext").value(false));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"not-a-cursor", "%21%21%21", "MjAyNC0wMS0wMVQxMjowMHxhYmM"}) // 마지막: "2024-01-01T12:00|abc"
+	void invalidCursorIsBadRequest(String cursor) throws Exception {
+		mockMvc.perform(get("/api/v1/books?cursor=" + cursor))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.status").value("error"));
+	}
+}
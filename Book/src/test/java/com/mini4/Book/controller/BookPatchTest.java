@@ -0,0 +1,219 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import com.mini4.Book.service.BookService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// PATCH /api/v1/books/{id}: JSON Merge Patch 의미 (null 은 값 삭제, 없는 필드는 400),
+// If-Match 버전 확인 (이전 ETag 는 409), @DynamicUpdate 로 바뀐 컬럼만 UPDATE
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:patch",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@Import(BookPatchTest.SqlCaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookPatchTest {
+
+	private static final String MERGE_PATCH = "application/merge-patch+json";
+	private static final List<String> CAPTURED_UPDATES = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private Long ownerId;
+	private String ownerToken;
+	private String otherToken;
+	private Long bookId;
+
+	@BeforeAll
+	void setUpUsers() {
+		User owner = userRepository.save(User.builder().name("owner").email("owner@test.com").password("pw").build());
+		User other = userRepository.save(User.builder().name("other").email("other@test.com").password("pw").build());
+		ownerId = owner.getId();
+		ownerToken = tokenOf(owner);
+		otherToken = tokenOf(other);
+	}
+
+	@BeforeEach
+	void createBook() {
+		BookRequestDto request = new BookRequestDto();
+		request.setTitle("제목");
+		request.setAuthor("저자");
+		request.setPublisher("출판사");
+		request.setPublishedDate("2024-01-01");
+		request.setContent("긴 본문");
+		request.setPrice(10000);
+		request.setCategory("IT");
+		bookId = bookService.createBook(request, ownerId).getId();
+		CAPTURED_UPDATES.clear();
+	}
+
+	@Test
+	void nullRemovesFieldAndAbsentFieldsAreKept() throws Exception {
+		mockMvc.perform(patchBook(ownerToken, "{\"author\": null, \"price\": 12000}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.author").isEmpty())
+				.andExpect(jsonPath("$.data.price").value(12000))
+				.andExpect(jsonPath("$.data.title").value("제목"))
+				.andExpect(jsonPath("$.data.content").value("긴 본문"))
+				.andExpect(jsonPath("$.data.version").value(1));
+
+		mockMvc.perform(get("/api/v1/books/" + bookId))
+				.andExpect(jsonPath("$.data.author").isEmpty())
+				.andExpect(jsonPath("$.data.category").value("IT"));
+	}
+
+	@Test
+	void unknownFieldIsBadRequest() throws Exception {
+		mockMvc.perform(patchBook(ownerToken, "{\"title\": \"새 제목\", \"isbn\": \"123\"}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(containsString("isbn")));
+
+		mockMvc.perform(get("/api/v1/books/" + bookId))
+				.andExpect(jsonPath("$.data.title").value("제목"));
+	}
+
+	@Test
+	void invalidValueAndEmptyBodyAreBadRequest() throws Exception {
+		mockMvc.perform(patchBook(ownerToken, "{\"title\": null}")).andExpect(status().isBadRequest());
+		mockMvc.perform(patchBook(ownerToken, "{\"publishedDate\": \"2024/01/01\"}")).andExpect(status().isBadRequest());
+		mockMvc.perform(patchBook(ownerToken, "{}")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void staleIfMatchIsConflict() throws Exception {
+		String original = mockMvc.perform(get("/api/v1/books/" + bookId))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		String updated = mockMvc.perform(patchBook(ownerToken, "{\"price\": 11000}").header(HttpHeaders.IF_MATCH, original))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(updated).isNotEqualTo(original);
+
+		mockMvc.perform(patchBook(ownerToken, "{\"price\": 9000}").header(HttpHeaders.IF_MATCH, original))
+				.andExpect(status().isConflict());
+		mockMvc.perform(patchBook(ownerToken, "{\"price\": 9000}").header(HttpHeaders.IF_MATCH, "\"b" + bookId + "-1\""))
+				.andExpect(status().isConflict());
+		mockMvc.perform(get("/api/v1/books/" + bookId))
+				.andExpect(header().string(HttpHeaders.ETAG, updated))
+				.andExpect(jsonPath("$.data.price").value(11000));
+	}
+
+	@Test
+	void otherUsersPatchIsForbidden() throws Exception {
+		mockMvc.perform(patchBook(otherToken, bookId, "{\"price\": 1}")).andExpect(status().isForbidden());
+		mockMvc.perform(patchBook(ownerToken, 999999L, "{\"price\": 1}")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void priceOnlyPatchUpdatesOnlyChangedColumns() throws Exception {
+		mockMvc.perform(patchBook(ownerToken, "{\"price\": 15000}")).andExpect(status().isOk());
+
+		List<String> updates = new ArrayList<>(CAPTURED_UPDATES);
+		assertThat(updates).hasSize(1);
+		String set = updates.get(0).toLowerCase();
+		assertThat(set).contains("price=").contains("version=").doesNotContain("content=").doesNotContain("title=");
+	}
+
+	private MockHttpServletRequestBuilder patchBook(String token, String body) {
+		return patchBook(token, bookId, body);
+	}
+
+	private MockHttpServletRequestBuilder patchBook(String token, Long id, String body) {
+		return patch("/api/v1/books/" + id)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.contentType(MERGE_PATCH)
+				.content(body);
+	}
+
+	private String tokenOf(User user) {
+		CustomUserDetails details = new CustomUserDetails(user);
+		return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+	}
+
+	// book_table UPDATE 문을 기록하는 DataSource 래퍼
+	@TestConfiguration
+	static class SqlCaptureConfig {
+
+		@Bean
+		static BeanPostProcessor updateCapturingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? new UpdateCapturingDataSource(dataSource) : bean;
+				}
+			};
+		}
+	}
+
+	static class UpdateCapturingDataSource extends DelegatingDataSource {
+
+		UpdateCapturingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection target = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+					(proxy, method, args) -> {
+						if (method.getName().equals("prepareStatement") && args[0] instanceof String sql
+								&& sql.trim().toLowerCase().startsWith("update book_table")) {
+							CAPTURED_UPDATES.add(sql);
+						}
+						try {
+							return method.invoke(target, args);
+						} catch (InvocationTargetException e) {
+							throw e.getTargetException();
+						}
+					});
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.search.BookSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 기동 시 검색 색인을 만드는 동안 /search 는 불완전한 결과 대신 503 + Retry-After
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:searchnotready",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+class BookSearchNotReadyTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private BookSearchIndex bookSearchIndex;
+
+	@Test
+	void searchAnswersServiceUnavailableUntilIndexIsReady() throws Exception {
+		when(bookSearchIndex.isReady()).thenReturn(false);
+
+		mockMvc.perform(get("/api/v1/books/search").param("q", "자바"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+		verify(bookSearchIndex, never()).search(anyString(), anyInt());
+	}
+
+	@Test
+	void searchUsesIndexOnceReady() throws Exception {
+		when(bookSearchIndex.isReady()).thenReturn(true);
+		when(bookSearchIndex.search(anyString(), anyInt())).thenReturn(new BookSearchIndex.SearchResult(List.of(), 0));
+
+		mockMvc.perform(get("/api/v1/books/search").param("q", "자바"))
+				.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,232 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import com.mini4.Book.service.BookService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// PUT/DELETE 조건부 수정·삭제: 성공 시 문장 하나, 0 건이면 404(없음/삭제됨)와 403(다른 사용자) 구분,
+// DELETE /my 의 ids / all=true / 둘 다 없으면 400
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:write",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@Import(BookWriteTest.SqlCaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookWriteTest {
+
+	// 요청 스레드(테스트 스레드)에서 준비한 book_table SQL
+	private static final ThreadLocal<List<String>> BOOK_SQL = ThreadLocal.withInitial(ArrayList::new);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private Long ownerId;
+	private String ownerToken;
+	private String otherToken;
+
+	@BeforeAll
+	void setUpUsers() {
+		User owner = userRepository.save(User.builder().name("writer").email("writer@test.com").password("pw").build());
+		User other = userRepository.save(User.builder().name("stranger").email("stranger@test.com").password("pw").build());
+		ownerId = owner.getId();
+		ownerToken = tokenOf(owner);
+		otherToken = tokenOf(other);
+	}
+
+	@Test
+	void putUpdatesWithOneStatementAndReturnsNewVersion() throws Exception {
+		Long bookId = create("수정 전");
+		String createdAt = mockMvc.perform(get("/api/v1/books/" + bookId))
+				.andReturn().getResponse().getContentAsString().replaceAll(".*\"createdAt\":\"([^\"]+)\".*", "$1");
+
+		BOOK_SQL.get().clear();
+		mockMvc.perform(putBook(ownerToken, bookId, "수정 후"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.title").value("수정 후"))
+				.andExpect(jsonPath("$.data.version").value(1))
+				.andExpect(jsonPath("$.data.createdAt").value(createdAt));
+		// 조건부 UPDATE 가 등록 시각/새 버전을 함께 반환 (응답을 위한 추가 SELECT 없음)
+		// 커밋 이후 패싯/검색 색인 리스너가 다시 읽는 조회는 제외
+		List<String> statements = BOOK_SQL.get().stream()
+				.filter(sql -> !sql.startsWith("SELECT category, price, version, deleted_at FROM book_table"))
+				.filter(sql -> !sql.contains("join user_table"))
+				.toList();
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0)).contains("from final table (update book_table");
+
+		mockMvc.perform(get("/api/v1/books/" + bookId))
+				.andExpect(jsonPath("$.data.title").value("수정 후"))
+				.andExpect(jsonPath("$.data.version").value(1));
+	}
+
+	@Test
+	void putAndDeleteDistinguishMissingFromForbidden() throws Exception {
+		Long bookId = create("권한");
+		Long deletedId = create("삭제됨");
+		bookService.deleteBook(deletedId, ownerId);
+
+		mockMvc.perform(putBook(otherToken, bookId, "남의 도서")).andExpect(status().isForbidden());
+		mockMvc.perform(putBook(ownerToken, 999999L, "없음")).andExpect(status().isNotFound());
+		mockMvc.perform(putBook(ownerToken, deletedId, "삭제됨")).andExpect(status().isNotFound());
+
+		mockMvc.perform(delete("/api/v1/books/" + bookId).header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(delete("/api/v1/books/999999").header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+				.andExpect(status().isNotFound());
+		mockMvc.perform(delete("/api/v1/books/" + deletedId).header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+				.andExpect(status().isNotFound());
+
+		// 거부된 요청은 도서를 바꾸지 않음
+		mockMvc.perform(get("/api/v1/books/" + bookId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.title").value("권한"))
+				.andExpect(jsonPath("$.data.version").value(0));
+	}
+
+	@Test
+	void deleteMyBooksByIdsOnlyDeletesOwnBooks() throws Exception {
+		Long first = create("일괄 1");
+		Long second = create("일괄 2");
+		Long kept = create("일괄 유지");
+
+		mockMvc.perform(delete("/api/v1/books/my?ids=" + first + "," + second + ",999999")
+						.header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data").value(containsInAnyOrder(first.intValue(), second.intValue())));
+		// 다른 사용자가 내 도서 ID 를 보내도 삭제되지 않음
+		mockMvc.perform(delete("/api/v1/books/my?ids=" + kept).header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data").isEmpty());
+
+		mockMvc.perform(get("/api/v1/books/" + first)).andExpect(status().isNotFound());
+		mockMvc.perform(get("/api/v1/books/" + kept)).andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteAllMyBooksAndMissingSelectorIsBadRequest() throws Exception {
+		User user = userRepository.save(User.builder().name("cleaner").email("cleaner@test.com").password("pw").build());
+		String token = tokenOf(user);
+		Long first = create("전체 1", user.getId());
+		Long second = create("전체 2", user.getId());
+		Long others = create("다른 사용자 도서");
+
+		mockMvc.perform(delete("/api/v1/books/my").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/v1/books/" + first)).andExpect(status().isOk());
+
+		mockMvc.perform(delete("/api/v1/books/my?all=true").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data").value(containsInAnyOrder(first.intValue(), second.intValue())));
+		mockMvc.perform(get("/api/v1/books/" + second)).andExpect(status().isNotFound());
+		mockMvc.perform(get("/api/v1/books/" + others)).andExpect(status().isOk());
+	}
+
+	private MockHttpServletRequestBuilder putBook(String token, Long id, String title) {
+		return put("/api/v1/books/" + id)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"title\": \"" + title + "\", \"publisher\": \"출판사\", \"publishedDate\": \"2024-01-01\"}");
+	}
+
+	private Long create(String title) {
+		return create(title, ownerId);
+	}
+
+	private Long create(String title, Long userId) {
+		BookRequestDto request = new BookRequestDto();
+		request.setTitle(title);
+		request.setPublisher("출판사");
+		request.setPublishedDate("2024-01-01");
+		return bookService.createBook(request, userId).getId();
+	}
+
+	private String tokenOf(User user) {
+		CustomUserDetails details = new CustomUserDetails(user);
+		return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+	}
+
+	// book_table 에 대한 SQL 을 기록하는 DataSource 래퍼
+	@TestConfiguration
+	static class SqlCaptureConfig {
+
+		@Bean
+		static BeanPostProcessor bookSqlCapturingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? new BookSqlCapturingDataSource(dataSource) : bean;
+				}
+			};
+		}
+	}
+
+	static class BookSqlCapturingDataSource extends DelegatingDataSource {
+
+		BookSqlCapturingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection target = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+					(proxy, method, args) -> {
+						if (method.getName().equals("prepareStatement") && args[0] instanceof String sql
+								&& sql.toLowerCase().contains("book_table")) {
+							BOOK_SQL.get().add(sql);
+						}
+						try {
+							return method.invoke(target, args);
+						} catch (InvocationTargetException e) {
+							throw e.getTargetException();
+						}
+					});
+		}
+	}
+}
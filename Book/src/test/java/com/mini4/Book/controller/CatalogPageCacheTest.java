@@ -0,0 +1,99 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookRequestDto;
+import com.mini4.Book.event.BookChangedEvent;
+import com.mini4.Book.repository.BookRepository;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.service.BookService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 공개 목록 응답 캐시: 같은 요청은 저장소 조회 없이 같은 바이트로 응답하고, BookChangedEvent 가 오면 캐시를 비움
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:catalogpage",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogPageCacheTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockitoSpyBean
+	private BookRepository bookRepository;
+
+	private Long bookId;
+
+	@BeforeAll
+	void setUp() {
+		User user = userRepository.save(User.builder().name("page").email("page@test.com").password("pw").build());
+		BookRequestDto request = new BookRequestDto();
+		request.setTitle("목록");
+		request.setPublisher("출판사");
+		request.setPublishedDate("2024-01-01");
+		bookId = bookService.createBook(request, user.getId()).getId();
+	}
+
+	@Test
+	void identicalRequestIsServedFromCacheUntilBookChanges() throws Exception {
+		byte[] first = list();
+		assertThat(repositoryCalls()).isPositive();
+
+		clearInvocations(bookRepository);
+		byte[] second = list();
+		assertThat(repositoryCalls()).isZero();
+		assertThat(second).isEqualTo(first);
+		assertThat(cachedPages()).isEqualTo(1);
+
+		// 트랜잭션 밖에서 발행하면 바로 처리됨 (fallbackExecution)
+		eventPublisher.publishEvent(BookChangedEvent.updated(bookId));
+		assertThat(cachedPages()).isZero();
+
+		clearInvocations(bookRepository);
+		list();
+		assertThat(repositoryCalls()).isPositive();
+	}
+
+	private byte[] list() throws Exception {
+		return mockMvc.perform(get("/api/v1/books?size=10"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsByteArray();
+	}
+
+	private int repositoryCalls() {
+		return mockingDetails(bookRepository).getInvocations().size();
+	}
+
+	private double cachedPages() {
+		return meterRegistry.get("cache.size").tag("cache", "catalog.page").gauge().value();
+	}
+}
@@ -0,0 +1,172 @@
+package com.mini4.Book.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.jwt.JwtTokenProvider;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 표지 업로드/조회: 중복 업로드, ETag 304, Range 206/416, If-Range
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:covers",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CoverControllerTest {
+
+	@DynamicPropertySource
+	static void coverDirectory(DynamicPropertyRegistry registry) throws IOException {
+		String dir = Files.createTempDirectory("covers").toString();
+		registry.add("book.covers.dir", () -> dir);
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private String token;
+	private byte[] image;
+	private String url;
+	private String eTag;
+
+	@BeforeAll
+	void upload() throws Exception {
+		User user = userRepository.save(User.builder().name("cover").email("cover@test.com").password("pw").build());
+		CustomUserDetails details = new CustomUserDetails(user);
+		token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+		image = png();
+
+		JsonNode data = objectMapper.readTree(mockMvc.perform(upload(image))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.data.duplicate").value(false))
+				.andReturn().getResponse().getContentAsByteArray()).get("data");
+		url = data.get("url").asText();
+		eTag = "\"" + data.get("id").asText() + "\"";
+	}
+
+	@Test
+	void sameImageIsStoredOnce() throws Exception {
+		mockMvc.perform(upload(image))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.url").value(url))
+				.andExpect(jsonPath("$.data.duplicate").value(true));
+	}
+
+	@Test
+	void unsupportedFormatIsBadRequest() throws Exception {
+		mockMvc.perform(upload("not an image".getBytes()))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void fullResponseIsImmutableAndRevalidates() throws Exception {
+		mockMvc.perform(get(url))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, eTag))
+				.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, image.length))
+				.andExpect(content().contentType("image/png"))
+				.andExpect(content().bytes(image));
+
+		mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	void singleRangeIsPartialContent() throws Exception {
+		mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/" + image.length))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+				.andExpect(content().bytes(Arrays.copyOfRange(image, 0, 10)));
+
+		mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=-5"))
+				.andExpect(status().isPartialContent())
+				.andExpect(content().bytes(Arrays.copyOfRange(image, image.length - 5, image.length)));
+	}
+
+	@Test
+	void rangeOutsideFileIsNotSatisfiable() throws Exception {
+		mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=" + image.length + "-"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + image.length));
+	}
+
+	@Test
+	void ifRangeMismatchReturnsWholeFile() throws Exception {
+		mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, eTag))
+				.andExpect(status().isPartialContent());
+
+		mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"other\""))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(image));
+	}
+
+	@Test
+	void unknownCoverIsNotFound() throws Exception {
+		mockMvc.perform(get("/api/v1/covers/" + "0".repeat(64) + ".png")).andExpect(status().isNotFound());
+		mockMvc.perform(get("/api/v1/covers/not-a-hash.png")).andExpect(status().isNotFound());
+	}
+
+	private RequestBuilder upload(byte[] bytes) {
+		return multipart("/api/v1/covers")
+				.file(new MockMultipartFile("file", "cover.png", "image/png", bytes))
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+	}
+
+	private static byte[] png() throws IOException {
+		BufferedImage image = new BufferedImage(300, 400, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.ORANGE);
+		graphics.fillRect(0, 0, 300, 400);
+		graphics.setColor(Color.BLUE);
+		graphics.drawString("cover", 100, 200);
+		graphics.dispose();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,166 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 비밀번호 해싱: 트랜잭션(DB 커넥션) 밖에서 실행, 대기열이 가득 차면 503 + Retry-After,
+// 저장된 해시의 cost 가 설정과 다르면 로그인 성공 시 다시 해싱
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:password",
+		"spring.jpa.show-sql=false",
+		"book.password.bcrypt-strength=10",
+		"book.password.hashing.threads=1",
+		"book.password.hashing.queue-capacity=1",
+		"book.password.hashing.retry-after-seconds=7"
+})
+@AutoConfigureMockMvc
+@Import(PasswordHashingTest.TransactionRecordingConfig.class)
+class PasswordHashingTest {
+
+	// encode/matches 호출 시 호출 스레드에 트랜잭션이 열려 있었는지
+	private static final List<Boolean> TRANSACTION_ACTIVE = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// 로그인은 Refresh Token 을 Redis 에 저장 (테스트 환경에는 Redis 가 없음)
+	@MockitoSpyBean
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@BeforeEach
+	void setUp() {
+		@SuppressWarnings("unchecked")
+		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+		doReturn(valueOperations).when(redisTemplate).opsForValue();
+		TRANSACTION_ACTIVE.clear();
+	}
+
+	@Test
+	void hashingRunsOutsideTransaction() throws Exception {
+		mockMvc.perform(register("tx@test.com", "tx")).andExpect(status().isCreated());
+		mockMvc.perform(login("tx@test.com")).andExpect(status().isOk());
+
+		assertThat(TRANSACTION_ACTIVE).hasSizeGreaterThanOrEqualTo(2).containsOnly(false);
+	}
+
+	@Test
+	void loginRehashesWhenCostChanged() throws Exception {
+		String oldHash = new BCryptPasswordEncoder(4).encode("password1");
+		userRepository.save(User.builder().name("legacy").email("legacy@test.com").password(oldHash).build());
+
+		mockMvc.perform(login("legacy@test.com")).andExpect(status().isOk());
+
+		String stored = userRepository.findByEmail("legacy@test.com").orElseThrow().getPassword();
+		assertThat(stored).startsWith("$2a$10$").isNotEqualTo(oldHash);
+		mockMvc.perform(login("legacy@test.com")).andExpect(status().isOk()); // 새 해시로도 로그인
+	}
+
+	@Test
+	void fullQueueIsServiceUnavailableWithRetryAfter() throws Exception {
+		// 해싱 스레드 1개 + 대기열 1칸을 cost 15 확인(각 수 초)으로 채움
+		String slowHash = "$2a$15$XcCj06pHt7nibrObD.GACOS3tuz4UpIvFEEwUK/nEMiDe4ZUwHKlu"; // "slow"
+		CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("slow", slowHash));
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("slow", slowHash));
+		long deadline = System.currentTimeMillis() + 5000;
+		while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(meterRegistry.get("password.hashing.queue.depth").gauge().value()).isEqualTo(1);
+
+		mockMvc.perform(register("busy@test.com", "busy"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+		assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isGreaterThanOrEqualTo(1);
+
+		assertThat(running.get(60, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(60, TimeUnit.SECONDS)).isTrue();
+		assertThat(userRepository.findByEmail("busy@test.com")).isEmpty();
+	}
+
+	private static RequestBuilder register(String email, String name) {
+		return post("/api/v1/users/register")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\": \"" + email + "\", \"name\": \"" + name + "\", \"password\": \"password1\"}");
+	}
+
+	private static RequestBuilder login(String email) {
+		return post("/api/v1/users/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\": \"" + email + "\", \"password\": \"password1\"}");
+	}
+
+	@TestConfiguration
+	static class TransactionRecordingConfig {
+
+		@Bean
+		static BeanPostProcessor transactionRecordingPasswordEncoderPostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (!(bean instanceof PasswordEncoder encoder)) {
+						return bean;
+					}
+					return new PasswordEncoder() {
+						@Override
+						public String encode(CharSequence rawPassword) {
+							TRANSACTION_ACTIVE.add(TransactionSynchronizationManager.isActualTransactionActive());
+							return encoder.encode(rawPassword);
+						}
+
+						@Override
+						public boolean matches(CharSequence rawPassword, String encodedPassword) {
+							TRANSACTION_ACTIVE.add(TransactionSynchronizationManager.isActualTransactionActive());
+							return encoder.matches(rawPassword, encodedPassword);
+						}
+
+						@Override
+						public boolean upgradeEncoding(String encodedPassword) {
+							return encoder.upgradeEncoding(encodedPassword);
+						}
+					};
+				}
+			};
+		}
+	}
+}
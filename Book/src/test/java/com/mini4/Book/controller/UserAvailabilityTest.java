@@ -0,0 +1,119 @@
+package com.mini4.Book.controller;
+
+import com.mini4.Book.cache.UserAvailabilityIndex;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// GET /api/v1/users/availability: Bloom 필터 음성이면 DB 커넥션을 빌리지 않고, "있을 수도 있음" 일 때만 exists 조회
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:availability",
+		"spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@Import(UserAvailabilityTest.ConnectionCountConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserAvailabilityTest {
+
+	// 요청 스레드(테스트 스레드)에서 빌린 커넥션 수 (스케줄러 등 다른 스레드는 제외)
+	private static final ThreadLocal<AtomicInteger> CONNECTIONS = ThreadLocal.withInitial(AtomicInteger::new);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserAvailabilityIndex userAvailabilityIndex;
+
+	@MockitoSpyBean
+	private UserRepository userRepository;
+
+	@BeforeAll
+	void setUp() {
+		userRepository.save(User.builder().name("taken").email("taken@test.com").password("pw").build());
+		userAvailabilityIndex.rebuild(); // 저장소로 직접 저장한 사용자를 필터에 반영
+	}
+
+	@BeforeEach
+	void resetCounts() {
+		CONNECTIONS.get().set(0);
+		clearInvocations(userRepository);
+	}
+
+	@Test
+	void bloomNegativeDoesNotTouchDatabase() throws Exception {
+		mockMvc.perform(get("/api/v1/users/availability?email=free@test.com&name=free"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.emailAvailable").value(true))
+				.andExpect(jsonPath("$.data.nameAvailable").value(true));
+
+		assertThat(CONNECTIONS.get().get()).isZero();
+		verify(userRepository, never()).existsByEmail(anyString());
+		verify(userRepository, never()).existsByName(anyString());
+	}
+
+	@Test
+	void bloomHitIsConfirmedInDatabase() throws Exception {
+		mockMvc.perform(get("/api/v1/users/availability?email=taken@test.com&name=taken"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.emailAvailable").value(false))
+				.andExpect(jsonPath("$.data.nameAvailable").value(false));
+
+		verify(userRepository).existsByEmail("taken@test.com");
+		verify(userRepository).existsByName("taken");
+	}
+
+	@Test
+	void emailOrNameIsRequired() throws Exception {
+		mockMvc.perform(get("/api/v1/users/availability")).andExpect(status().isBadRequest());
+	}
+
+	@TestConfiguration
+	static class ConnectionCountConfig {
+
+		@Bean
+		static BeanPostProcessor connectionCountingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (!(bean instanceof DataSource dataSource)) {
+						return bean;
+					}
+					return new DelegatingDataSource(dataSource) {
+						@Override
+						public Connection getConnection() throws SQLException {
+							CONNECTIONS.get().incrementAndGet();
+							return super.getConnection();
+						}
+					};
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.mini4.Book.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 회원가입 중복: 위반한 유니크 제약 이름(uk_user_email / uk_user_name)으로 이메일/이름 구분
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:register",
+		"spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class UserRegisterTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void duplicateEmailOrNameIsReportedByConstraint() throws Exception {
+		mockMvc.perform(register("first@test.com", "first")).andExpect(status().isCreated());
+
+		mockMvc.perform(register("first@test.com", "second"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("이미 존재하는 이메일입니다."));
+		mockMvc.perform(register("second@test.com", "first"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("이미 존재하는 이름입니다."));
+		mockMvc.perform(register("second@test.com", "second")).andExpect(status().isCreated());
+	}
+
+	@Test
+	void migrationReplacesGeneratedConstraintNames() {
+		List<String> unique = jdbcTemplate.queryForList("SELECT constraint_name FROM information_schema.table_constraints"
+				+ " WHERE table_name = 'USER_TABLE' AND constraint_type = 'UNIQUE'", String.class);
+		assertThat(unique).containsExactlyInAnyOrder("UK_USER_EMAIL", "UK_USER_NAME");
+	}
+
+	private static RequestBuilder register(String email, String name) {
+		return post("/api/v1/users/register")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\": \"" + email + "\", \"name\": \"" + name + "\", \"password\": \"password1\"}");
+	}
+}
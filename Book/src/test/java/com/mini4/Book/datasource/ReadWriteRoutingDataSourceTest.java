@@ -0,0 +1,149 @@
+package com.mini4.Book.datasource;
+
+import com.mini4.Book.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인메모리 H2 여러 개(주 DB 1 + 복제본 2)로 읽기/쓰기 라우팅 확인
+// 각 DB 의 node 테이블에 자기 이름을 넣어 두고, 받은 연결이 어느 DB 인지 조회해서 판별
+class ReadWriteRoutingDataSourceTest {
+
+	private final DataSource primary = h2("primary");
+	private final DataSource replica1 = h2("replica1");
+	private final DataSource replica2 = h2("replica2");
+
+	@AfterEach
+	void clearContext() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsAreSpreadOverReplicas() throws SQLException {
+		ReadWriteRoutingDataSource routing = routing(List.of(replica1, replica2), 0);
+
+		readOnlyTransaction();
+		assertThat(List.of(nodeOf(routing), nodeOf(routing), nodeOf(routing), nodeOf(routing)))
+				.containsExactly("replica1", "replica2", "replica1", "replica2");
+	}
+
+	@Test
+	void writesAndNonTransactionalReadsGoToPrimary() throws SQLException {
+		ReadWriteRoutingDataSource routing = routing(List.of(replica1, replica2), 0);
+
+		assertThat(nodeOf(routing)).isEqualTo("primary");
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		assertThat(nodeOf(routing)).isEqualTo("primary");
+	}
+
+	@Test
+	void usePrimaryOverridesReadOnlyTransaction() throws SQLException {
+		ReadWriteRoutingDataSource routing = routing(List.of(replica1), 0);
+
+		readOnlyTransaction();
+		String node = ReadWriteRoutingDataSource.usePrimary(() -> {
+			try {
+				return nodeOf(routing);
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(node).isEqualTo("primary");
+		assertThat(nodeOf(routing)).isEqualTo("replica1");
+	}
+
+	@Test
+	void failingReplicaIsSkippedAndFallsBackToPrimary() throws SQLException {
+		DataSource broken = new DriverManagerDataSource("jdbc:unknown:replica");
+		ReadWriteRoutingDataSource routing = routing(List.of(broken, replica2), 0);
+
+		readOnlyTransaction();
+		assertThat(List.of(nodeOf(routing), nodeOf(routing), nodeOf(routing))).containsOnly("replica2");
+		assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+
+		ReadWriteRoutingDataSource allBroken = routing(List.of(broken), 0);
+		assertThat(nodeOf(allBroken)).isEqualTo("primary");
+	}
+
+	@Test
+	void healthCheckMarksUnreachableReplicas() {
+		ReadWriteRoutingDataSource routing = routing(List.of(replica1, new DriverManagerDataSource("jdbc:unknown:replica")), 0);
+
+		routing.checkReplicas();
+
+		assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+	}
+
+	@Test
+	void userReadsOwnWritesFromPrimaryWithinWindow() throws Exception {
+		ReadWriteRoutingDataSource routing = routing(List.of(replica1), 200);
+		SecurityContextHolder.getContext().setAuthentication(authenticated(1L));
+
+		// 쓰기 트랜잭션 후 같은 사용자의 읽기 전용 트랜잭션은 주 DB
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		assertThat(nodeOf(routing)).isEqualTo("primary");
+		readOnlyTransaction();
+		assertThat(nodeOf(routing)).isEqualTo("primary");
+
+		// 다른 사용자는 복제본
+		SecurityContextHolder.getContext().setAuthentication(authenticated(2L));
+		assertThat(nodeOf(routing)).isEqualTo("replica1");
+
+		// 시간이 지나면 다시 복제본
+		SecurityContextHolder.getContext().setAuthentication(authenticated(1L));
+		Thread.sleep(400);
+		assertThat(nodeOf(routing)).isEqualTo("replica1");
+	}
+
+	private ReadWriteRoutingDataSource routing(List<DataSource> replicas, long readYourWritesMs) {
+		return new ReadWriteRoutingDataSource(primary, replicas, readYourWritesMs, 0, new SimpleMeterRegistry());
+	}
+
+	private static void readOnlyTransaction() {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+	}
+
+	private static UsernamePasswordAuthenticationToken authenticated(Long userId) {
+		CustomUserDetails principal = CustomUserDetails.fromClaims(userId, "user" + userId, "user" + userId + "@test.com");
+		return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+	}
+
+	private static String nodeOf(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+
+	private static DataSource h2(String name) {
+		DataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE node (name VARCHAR(20))");
+			statement.execute("INSERT INTO node VALUES ('" + name + "')");
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+		return dataSource;
+	}
+}
@@ -0,0 +1,142 @@
+package com.mini4.Book.jwt;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// jwt.stateless-principal=true: uid/name 클레임이 있는 토큰은 사용자 조회 없이 principal 생성,
+// 클레임이 없는 이전 토큰은 이메일(sub)로 사용자를 조회해 principal 생성
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:stateless",
+		"spring.jpa.show-sql=false",
+		"jwt.stateless-principal=true",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@Import(StatelessPrincipalTest.SqlCaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatelessPrincipalTest {
+
+	// 요청 스레드(테스트 스레드)에서 준비한 user_table 조회 SQL
+	private static final ThreadLocal<List<String>> USER_SQL = ThreadLocal.withInitial(ArrayList::new);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private Long userId;
+	private CustomUserDetails details;
+
+	@BeforeAll
+	void setUp() {
+		User user = userRepository.save(User.builder().name("claims").email("claims@test.com").password("pw").build());
+		userId = user.getId();
+		details = new CustomUserDetails(user);
+	}
+
+	@BeforeEach
+	void clearSql() {
+		USER_SQL.get().clear();
+	}
+
+	@Test
+	void principalIsBuiltFromClaimsWithoutUserQuery() throws Exception {
+		String token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+		assertThat(jwtTokenProvider.verify(token).get("uid")).isNotNull();
+		USER_SQL.get().clear();
+
+		mockMvc.perform(get("/api/v1/books/my").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, endsWith("-u" + userId + "\"")));
+
+		assertThat(USER_SQL.get()).isEmpty();
+	}
+
+	@Test
+	void legacyTokenWithoutClaimsLoadsUserByEmail() throws Exception {
+		// uid/name 클레임이 없는 이전 형식 토큰 (principal 이 CustomUserDetails 가 아니면 클레임을 넣지 않음)
+		String legacyToken = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+				"claims@test.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+		assertThat(jwtTokenProvider.verify(legacyToken).get("uid")).isNull();
+		USER_SQL.get().clear();
+
+		mockMvc.perform(get("/api/v1/books/my").header(HttpHeaders.AUTHORIZATION, "Bearer " + legacyToken))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, endsWith("-u" + userId + "\"")));
+
+		assertThat(USER_SQL.get()).hasSize(1);
+	}
+
+	@TestConfiguration
+	static class SqlCaptureConfig {
+
+		@Bean
+		static BeanPostProcessor userSqlCapturingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? new UserSqlCapturingDataSource(dataSource) : bean;
+				}
+			};
+		}
+	}
+
+	static class UserSqlCapturingDataSource extends DelegatingDataSource {
+
+		UserSqlCapturingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection target = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+					(proxy, method, args) -> {
+						if (method.getName().equals("prepareStatement") && args[0] instanceof String sql
+								&& sql.toLowerCase().contains("from user_table")) {
+							USER_SQL.get().add(sql);
+						}
+						try {
+							return method.invoke(target, args);
+						} catch (InvocationTargetException e) {
+							throw e.getTargetException();
+						}
+					});
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.mini4.Book.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Redis 가 없을 때의 블랙리스트 동작: 첫 재구성 재시도 예약, fail-open 설정에 따른 허용/차단
+class TokenBlacklistTest {
+
+	private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+	private final TaskScheduler scheduler = mock(TaskScheduler.class);
+
+	@Test
+	void failedInitialLoadIsRetried() {
+		when(redis.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+
+		blacklist(false).onApplicationReady();
+
+		verify(scheduler).schedule(any(Runnable.class), any(Instant.class));
+	}
+
+	@Test
+	void redisFailureRejectsTokenWhenFailClosed() {
+		when(redis.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+		assertThat(blacklist(false).isRevoked("jti")).isTrue();
+	}
+
+	@Test
+	void redisFailureAllowsTokenWhenFailOpen() {
+		when(redis.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+		assertThat(blacklist(true).isRevoked("jti")).isFalse();
+	}
+
+	private TokenBlacklist blacklist(boolean failOpen) {
+		return new TokenBlacklist(redis, mock(RedisMessageListenerContainer.class), scheduler, 1000, 0.01, failOpen);
+	}
+}
@@ -0,0 +1,115 @@
+package com.mini4.Book.jwt;
+
+import com.mini4.Book.domain.User;
+import com.mini4.Book.repository.UserRepository;
+import com.mini4.Book.security.CustomUserDetails;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 검증된 Claims 캐시: 캐시된 토큰도 exp 이후에는 거부되고, 캐시 여부와 관계없이 로그아웃된 jti 는 거부됨
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:verified",
+		"spring.jpa.show-sql=false",
+		"jwt.blacklist.fail-open=true" // 테스트 환경에는 Redis 가 없음
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VerifiedTokenCacheTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockitoSpyBean
+	private TokenBlacklist tokenBlacklist;
+
+	@Value("${jwt.secret}")
+	private String secret;
+
+	private User user;
+
+	@BeforeAll
+	void setUp() {
+		user = userRepository.save(User.builder().name("cached").email("cached@test.com").password("pw").build());
+	}
+
+	@Test
+	void cachedTokenIsRejectedAfterExpiry() throws Exception {
+		// JWT exp 는 초 단위이므로 초 경계에 맞춘 2초 뒤 만료
+		long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000;
+		String token = Jwts.builder()
+				.setId(UUID.randomUUID().toString())
+				.setSubject(user.getEmail())
+				.claim("auth", "ROLE_USER")
+				.claim("uid", user.getId())
+				.claim("name", user.getName())
+				.setExpiration(new Date(expiresAt))
+				.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)), SignatureAlgorithm.HS256)
+				.compact();
+
+		double cached = cachedValidations();
+		mockMvc.perform(myBooks(token)).andExpect(status().isOk());
+		mockMvc.perform(myBooks(token)).andExpect(status().isOk());
+		assertThat(cachedValidations()).isEqualTo(cached + 1);
+
+		while (System.currentTimeMillis() <= expiresAt + 100) {
+			Thread.sleep(50);
+		}
+		double expired = meterRegistry.get("jwt.validation.failures").tag("reason", "expired").counter().count();
+		mockMvc.perform(myBooks(token)).andExpect(status().isUnauthorized());
+		assertThat(meterRegistry.get("jwt.validation.failures").tag("reason", "expired").counter().count()).isEqualTo(expired + 1);
+	}
+
+	@Test
+	void revokedTokenIsRejectedWhileClaimsAreCached() throws Exception {
+		CustomUserDetails details = new CustomUserDetails(user);
+		String token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+		mockMvc.perform(myBooks(token)).andExpect(status().isOk());
+
+		// 로그아웃 (블랙리스트에 jti 추가) 뒤 같은 토큰: Claims 는 캐시에서 나오지만 블랙리스트 확인은 건너뛰지 않음
+		String jti = jwtTokenProvider.verify(token).getId();
+		doReturn(true).when(tokenBlacklist).isRevoked(jti);
+		double cached = cachedValidations();
+		mockMvc.perform(myBooks(token)).andExpect(status().isUnauthorized());
+		assertThat(cachedValidations()).isEqualTo(cached + 1);
+	}
+
+	private double cachedValidations() {
+		return meterRegistry.get("jwt.validation").tag("outcome", "cached").timer().count();
+	}
+
+	private static RequestBuilder myBooks(String token) {
+		return get("/api/v1/books/my").header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+	}
+}
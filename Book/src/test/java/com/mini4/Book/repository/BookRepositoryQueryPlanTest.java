@@ -0,0 +1,179 @@
+package com.mini4.Book.repository;
+
+import com.mini4.Book.domain.Book;
+import com.mini4.Book.domain.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자주 실행되는 BookRepository 쿼리가 Hibernate 가 만든 SQL 그대로 인덱스를 타는지 EXPLAIN 으로 확인
+// (db/migration 의 인덱스가 빠지거나 쿼리 조건이 바뀌어 book_table 전체 스캔이 되면 실패)
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:query-plan",
+		"spring.jpa.show-sql=false"
+})
+@Import(BookRepositoryQueryPlanTest.SqlCaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookRepositoryQueryPlanTest {
+
+	private static final List<String> CAPTURED_SQL = new CopyOnWriteArrayList<>();
+	private static final LocalDateTime CURSOR_TIME = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private Long userId;
+
+	@BeforeAll
+	void setUp() {
+		User user = userRepository.save(User.builder().name("plan").email("plan@test.com").password("pw").build());
+		userId = user.getId();
+		bookRepository.save(Book.builder().title("plan").user(user).build());
+	}
+
+	static Stream<Named<Consumer<QueryArgs>>> hotQueries() {
+		return Stream.of(
+				Named.of("findByIdAndDeletedAtIsNull", q -> q.books.findByIdAndDeletedAtIsNull(1L)),
+				Named.of("findAllByIdInAndDeletedAtIsNull", q -> q.books.findAllByIdInAndDeletedAtIsNull(List.of(1L, 2L, 3L))),
+				Named.of("findFirstPage", q -> q.books.findFirstPage(Limit.of(21))),
+				Named.of("findPageAfter", q -> q.books.findPageAfter(CURSOR_TIME, 100L, Limit.of(21))),
+				Named.of("findFirstPageByUserId", q -> q.books.findFirstPageByUserId(q.userId, Limit.of(21))),
+				Named.of("findPageAfterByUserId", q -> q.books.findPageAfterByUserId(q.userId, CURSOR_TIME, 100L, Limit.of(21))),
+				Named.of("findFirstSummaryPage", q -> q.books.findFirstSummaryPage(Limit.of(21))),
+				Named.of("findSummaryPageAfter", q -> q.books.findSummaryPageAfter(CURSOR_TIME, 100L, Limit.of(21))),
+				Named.of("findFirstSummaryPageByUserId", q -> q.books.findFirstSummaryPageByUserId(q.userId, Limit.of(21))),
+				Named.of("findSummaryPageAfterByUserId", q -> q.books.findSummaryPageAfterByUserId(q.userId, CURSOR_TIME, 100L, Limit.of(21))),
+				Named.of("findOwnerIdById", q -> q.books.findOwnerIdById(1L)),
+				// 행 잠금 조회는 트랜잭션 안에서만 실행 가능
+				Named.of("findIdsForDeleteByUserId", q -> q.tx.executeWithoutResult(
+						status -> q.books.findIdsForDeleteByUserId(q.userId))),
+				Named.of("findIdsForDeleteByUserIdAndIdIn", q -> q.tx.executeWithoutResult(
+						status -> q.books.findIdsForDeleteByUserIdAndIdIn(q.userId, List.of(1L, 2L)))),
+				Named.of("countByDeletedAtIsNull", q -> q.books.countByDeletedAtIsNull()),
+				Named.of("countByUser_IdAndDeletedAtIsNull", q -> q.books.countByUser_IdAndDeletedAtIsNull(q.userId)),
+				// 목록 필터 (BookSpecifications)
+				Named.of("filter category", q -> q.books.findFilteredPage(
+						BookSpecifications.notDeleted().and(BookSpecifications.categoryEquals("IT")), 21)),
+				Named.of("filter publisher after cursor", q -> q.books.findFilteredSummaryPage(
+						BookSpecifications.notDeleted().and(BookSpecifications.publisherEquals("출판사"))
+								.and(BookSpecifications.after(CURSOR_TIME, 100L)), 21)),
+				Named.of("filter price range", q -> q.books.findFilteredSummaryPage(
+						BookSpecifications.notDeleted().and(BookSpecifications.priceAtLeast(10000))
+								.and(BookSpecifications.priceAtMost(20000)), 21)),
+				Named.of("filter owner and category", q -> q.books.findFilteredPage(
+						BookSpecifications.notDeleted().and(BookSpecifications.ownedBy(q.userId))
+								.and(BookSpecifications.categoryEquals("IT")), 21)),
+				Named.of("filter count", q -> q.books.countFiltered(
+						BookSpecifications.notDeleted().and(BookSpecifications.categoryEquals("IT"))))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("hotQueries")
+	void hotQueryDoesNotScanBookTable(Consumer<QueryArgs> query) {
+		CAPTURED_SQL.clear();
+		query.accept(new QueryArgs(bookRepository, userId, transactionTemplate));
+		List<String> statements = new ArrayList<>(CAPTURED_SQL);
+
+		assertThat(statements).as("실행된 SQL").isNotEmpty();
+		for (String sql : statements) {
+			String plan = explain(sql);
+			assertThat(plan).as("실행 계획: %s", plan).doesNotContainIgnoringCase("tableScan");
+		}
+	}
+
+	// 바인딩 값은 계획 선택에 영향이 없으므로 모두 NULL 로 EXPLAIN
+	private String explain(String sql) {
+		return jdbcTemplate.execute((Connection connection) -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+				int parameters = statement.getParameterMetaData().getParameterCount();
+				for (int i = 1; i <= parameters; i++) {
+					statement.setObject(i, null);
+				}
+				try (ResultSet resultSet = statement.executeQuery()) {
+					resultSet.next();
+					return resultSet.getString(1);
+				}
+			}
+		});
+	}
+
+	record QueryArgs(BookRepository books, Long userId, TransactionTemplate tx) {
+	}
+
+	// Hibernate 가 준비하는 SQL 을 기록하는 DataSource 래퍼
+	@TestConfiguration
+	static class SqlCaptureConfig {
+
+		@Bean
+		static BeanPostProcessor sqlCapturingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? new SqlCapturingDataSource(dataSource) : bean;
+				}
+			};
+		}
+	}
+
+	static class SqlCapturingDataSource extends DelegatingDataSource {
+
+		SqlCapturingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection target = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+					(proxy, method, args) -> {
+						if (method.getName().equals("prepareStatement") && args[0] instanceof String sql
+								&& sql.trim().toLowerCase().startsWith("select")) {
+							CAPTURED_SQL.add(sql);
+						}
+						try {
+							return method.invoke(target, args);
+						} catch (InvocationTargetException e) {
+							throw e.getTargetException();
+						}
+					});
+		}
+	}
+}
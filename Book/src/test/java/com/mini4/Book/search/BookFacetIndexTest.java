@@ -0,0 +1,108 @@
+package com.mini4.Book.search;
+
+import com.mini4.Book.dto.BookFacetsDto;
+import com.mini4.Book.event.BookChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 도서별 version 비교: 먼저 읽은 이전 상태가 나중에 적용되어도 집계를 되돌리지 않음
+class BookFacetIndexTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private BookFacetIndex index;
+	private final AtomicReference<ResultSet> nextRow = new AtomicReference<>();
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.query(anyString(), ArgumentMatchers.<ResultSetExtractor<Object>>any(), eq(1L))).thenAnswer(invocation -> {
+			ResultSetExtractor<?> extractor = invocation.getArgument(1);
+			return extractor.extractData(nextRow.get());
+		});
+		index = new BookFacetIndex(jdbcTemplate, new int[]{10000});
+	}
+
+	@Test
+	void changesMoveCounts() throws Exception {
+		nextRow.set(row("IT", 5000, 0, null));
+		index.onBookChanged(BookChangedEvent.created(1L));
+		assertThat(categories()).containsExactlyEntriesOf(Map.of("IT", 1L));
+
+		nextRow.set(row("소설", 15000, 1, null));
+		index.onBookChanged(BookChangedEvent.updated(1L));
+		assertThat(categories()).containsExactlyEntriesOf(Map.of("소설", 1L));
+		assertThat(index.getFacets().getPriceRanges().get(1).getCount()).isEqualTo(1);
+
+		nextRow.set(row("소설", 15000, 2, LocalDateTime.now()));
+		index.onBookChanged(BookChangedEvent.deleted(1L));
+		assertThat(index.getFacets().getTotalCount()).isZero();
+	}
+
+	@Test
+	void olderReadAppliedLateIsIgnored() throws Exception {
+		nextRow.set(row("IT", 5000, 0, null));
+		index.onBookChanged(BookChangedEvent.created(1L));
+
+		// 첫 번째 반영은 version 1 을 읽은 뒤 적용 전에 지연
+		CountDownLatch firstReadStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirstRead = new CountDownLatch(1);
+		ResultSet stale = row("경제", 5000, 1, null);
+		when(stale.getLong(3)).thenAnswer(invocation -> {
+			firstReadStarted.countDown();
+			releaseFirstRead.await(5, TimeUnit.SECONDS);
+			return 1L;
+		});
+		nextRow.set(stale);
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> index.onBookChanged(BookChangedEvent.updated(1L)));
+		assertThat(firstReadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 그 사이 version 2 가 먼저 반영
+		nextRow.set(row("소설", 5000, 2, null));
+		index.onBookChanged(BookChangedEvent.updated(1L));
+		releaseFirstRead.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		assertThat(categories()).containsExactlyEntriesOf(Map.of("소설", 1L));
+
+		// 삭제 이후 늦게 도착한 이전 상태도 무시
+		nextRow.set(row("소설", 5000, 3, LocalDateTime.now()));
+		index.onBookChanged(BookChangedEvent.deleted(1L));
+		nextRow.set(row("소설", 5000, 2, null));
+		index.onBookChanged(BookChangedEvent.updated(1L));
+		assertThat(index.getFacets().getTotalCount()).isZero();
+	}
+
+	private Map<String, Long> categories() {
+		return index.getFacets().getCategories().stream()
+				.collect(Collectors.toMap(BookFacetsDto.CategoryCount::getCategory, BookFacetsDto.CategoryCount::getCount));
+	}
+
+	// SELECT category, price, version, deleted_at 의 한 행
+	private static ResultSet row(String category, Integer price, long version, LocalDateTime deletedAt) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.next()).thenReturn(true, false);
+		when(rs.getString(1)).thenReturn(category);
+		when(rs.getObject(2)).thenReturn(price);
+		when(rs.getLong(3)).thenReturn(version);
+		when(rs.getObject(4)).thenReturn(deletedAt);
+		return rs;
+	}
+}
@@ -0,0 +1,138 @@
+package com.mini4.Book.search;
+
+import com.mini4.Book.domain.Book;
+import com.mini4.Book.domain.User;
+import com.mini4.Book.dto.BookSummaryDto;
+import com.mini4.Book.event.BookChangedEvent;
+import com.mini4.Book.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 증분 반영 순서(먼저 읽은 이전 상태가 나중에 덮어쓰지 않음), 한 글자 검색어, 기동 시 비동기 재구성
+class BookSearchIndexTest {
+
+	private static final User OWNER = User.builder().name("owner").email("owner@test.com").password("pw").build();
+
+	private BookRepository bookRepository;
+	private BookSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		bookRepository = mock(BookRepository.class);
+		index = new BookSearchIndex(bookRepository);
+	}
+
+	@Test
+	void singleCharacterQueryMatchesWordStart() {
+		when(bookRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(book(1L, "자바 입문")));
+		when(bookRepository.findByIdAndDeletedAtIsNull(2L)).thenReturn(Optional.of(book(2L, "파이썬 입문")));
+		when(bookRepository.findByIdAndDeletedAtIsNull(3L)).thenReturn(Optional.of(book(3L, "모던 자바스크립트")));
+		index.onBookChanged(BookChangedEvent.created(1L));
+		index.onBookChanged(BookChangedEvent.created(2L));
+		index.onBookChanged(BookChangedEvent.created(3L));
+
+		assertThat(titles("자")).containsExactlyInAnyOrder("자바 입문", "모던 자바스크립트");
+		assertThat(titles("바")).isEmpty(); // 단어 중간 글자는 찾지 않음
+		assertThat(titles("스크립트")).containsExactly("모던 자바스크립트"); // 여러 글자 검색어는 단어 중간도 일치
+		assertThat(titles("입문 자")).containsExactly("자바 입문");
+	}
+
+	@Test
+	void earlierReadIsNotAppliedAfterLaterChange() throws Exception {
+		CountDownLatch firstReadStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirstRead = new CountDownLatch(1);
+		AtomicInteger reads = new AtomicInteger();
+		when(bookRepository.findByIdAndDeletedAtIsNull(anyLong())).thenAnswer(invocation -> {
+			if (reads.incrementAndGet() == 1) {
+				// 첫 번째 반영: 이전 상태를 읽은 뒤 적용 전에 지연
+				Book old = book(1L, "이전 제목");
+				firstReadStarted.countDown();
+				releaseFirstRead.await(5, TimeUnit.SECONDS);
+				return Optional.of(old);
+			}
+			return Optional.of(book(1L, "새 제목"));
+		});
+
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> index.onBookChanged(BookChangedEvent.updated(1L)));
+		assertThat(firstReadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Void> second = CompletableFuture.runAsync(() -> index.onBookChanged(BookChangedEvent.updated(1L)));
+		try {
+			second.get(300, TimeUnit.MILLISECONDS); // 첫 번째 반영이 끝날 때까지 기다려야 함
+		} catch (TimeoutException expected) {
+			// 두 번째 반영은 첫 번째 반영 이후에 DB 를 읽음
+		}
+		releaseFirstRead.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+
+		assertThat(titles("새 제목")).containsExactly("새 제목");
+		assertThat(titles("이전")).isEmpty();
+	}
+
+	@Test
+	void startupRebuildRunsInBackgroundAndReportsReadyWhenDone() throws Exception {
+		CountDownLatch releaseRead = new CountDownLatch(1);
+		when(bookRepository.findFirstPage(any())).thenAnswer(invocation -> {
+			releaseRead.await(5, TimeUnit.SECONDS);
+			return List.of(book(1L, "자바 입문"));
+		});
+
+		CompletableFuture.runAsync(index::onApplicationReady).get(1, TimeUnit.SECONDS); // DB 를 읽는 동안 기동을 막지 않음
+		assertThat(index.isReady()).isFalse();
+
+		releaseRead.countDown();
+		awaitReady();
+		assertThat(titles("자바")).containsExactly("자바 입문");
+		index.shutdown();
+	}
+
+	@Test
+	void startupRebuildRetriesAfterFailure() throws Exception {
+		AtomicInteger reads = new AtomicInteger();
+		when(bookRepository.findFirstPage(any())).thenAnswer(invocation -> {
+			if (reads.incrementAndGet() == 1) {
+				throw new IllegalStateException("DB 미기동");
+			}
+			return List.of(book(1L, "자바 입문"));
+		});
+
+		index.onApplicationReady();
+		awaitReady();
+		assertThat(reads.get()).isEqualTo(2);
+		assertThat(titles("자바")).containsExactly("자바 입문");
+		index.shutdown();
+	}
+
+	private void awaitReady() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!index.isReady() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(index.isReady()).isTrue();
+	}
+
+	private List<String> titles(String query) {
+		return index.search(query, 10).getBooks().stream().map(BookSummaryDto::getTitle).toList();
+	}
+
+	private static Book book(Long id, String title) {
+		Book book = Book.builder().title(title).publisher("출판사").user(OWNER).build();
+		ReflectionTestUtils.setField(book, "id", id);
+		return book;
+	}
+}